@@ -2,14 +2,17 @@ package com.github.arvyy.islisp;
 
 import com.github.arvyy.islisp.functions.*;
 import com.github.arvyy.islisp.nodes.ISLISPDefGenericExecutionNodeGen;
+import com.github.arvyy.islisp.parser.MacroExpansionCache;
 import com.github.arvyy.islisp.parser.ParsingException;
 import com.github.arvyy.islisp.runtime.*;
+import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.nodes.Node;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -20,6 +23,10 @@ public class ISLISPContext {
     private static final TruffleLanguage.ContextReference<ISLISPContext> CTX_REF
             = TruffleLanguage.ContextReference.create(ISLISPTruffleLanguage.class);
 
+    private static final int EVAL_CACHE_SIZE = 256;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int[] NO_SURROGATES = new int[0];
+
     /**
      * Get current islisp context.
      *
@@ -32,22 +39,25 @@ public class ISLISPContext {
     private final ISLISPTruffleLanguage language;
     private final Env env;
 
-    @CompilerDirectives.CompilationFinal
-    private Symbol nil;
-
-    @CompilerDirectives.CompilationFinal
-    private Symbol t;
-
     private final Map<String, ISLISPModule> modules;
 
-    private final Map<SymbolReference, Map<SymbolReference, ValueReference>> symbolProperties;
-    private final Map<String, SymbolReference> symbols;
+    private final Set<SymbolReference> symbolsWithProperties;
+    // nil and t are shared by all contexts; their properties are held per context instead
+    private final SymbolReference nilProperties;
+    private final SymbolReference tProperties;
+    private final SymbolTable symbols;
     private final ValueReference currentOutputStream;
     private final ValueReference currentInputStream;
     private final ValueReference currentErrorStream;
 
     private HandlerChain handlerChain;
 
+    private final MacroExpansionCache macroExpansionCache;
+    private final Map<String, CallTarget> evalCache;
+    private final Map<String, int[]> codepointOffsets;
+    private int bindingsVersion;
+    private int classIdCounter;
+
     /**
      * Create islisp context.
      *
@@ -59,14 +69,32 @@ public class ISLISPContext {
         this.env = env;
         modules = new HashMap<>();
         modules.put("ROOT", new ISLISPModule());
-        symbolProperties = new HashMap<>();
-        symbols = new HashMap<>();
+        symbolsWithProperties = ConcurrentHashMap.newKeySet();
+        nilProperties = new SymbolReference();
+        tProperties = new SymbolReference();
+        symbols = new SymbolTable();
         currentOutputStream = new ValueReference();
         currentOutputStream.setValue(new LispStream(null, env.out()));
         currentInputStream = new ValueReference();
         currentInputStream.setValue(new LispStream(env.in(), null));
         currentErrorStream = new ValueReference();
         currentErrorStream.setValue(new LispStream(null, env.err()));
+        if (env.getOptions().get(ISLISPTruffleLanguage.CacheMacroExpansions)) {
+            macroExpansionCache = new MacroExpansionCache();
+        } else {
+            macroExpansionCache = null;
+        }
+        if (env.getOptions().get(ISLISPTruffleLanguage.CacheEval)) {
+            evalCache = new LinkedHashMap<>(EVAL_CACHE_SIZE, LOAD_FACTOR, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CallTarget> eldest) {
+                    return size() > EVAL_CACHE_SIZE;
+                }
+            };
+        } else {
+            evalCache = null;
+        }
+        codepointOffsets = Collections.synchronizedMap(new WeakHashMap<>());
         initBuiltinVars();
         initBuiltinClasses();
         initGlobalFunctions();
@@ -96,6 +124,45 @@ public class ISLISPContext {
             throw new ParsingException(null, "Module already defined: " + module);
         }
         var m = new ISLISPModule();
+        addModuleImports(m, requiredModules);
+        for (var export: exports) {
+            m.addExport(export);
+        }
+        modules.put(module, m);
+    }
+
+    /**
+     * Create a module whose content is loaded only when one of its exports is first looked up.
+     * Module's dependencies don't need to be loaded yet; loader is expected to load them
+     * and call `importDeferredModuleDependencies` before executing module's content.
+     *
+     * @param module module name
+     * @param exports list of exports.
+     * @param loader callback to load module's content.
+     */
+    public void createDeferredModule(String module, List<SymbolReference> exports, Runnable loader) {
+        if (modules.containsKey(module)) {
+            throw new ParsingException(null, "Module already defined: " + module);
+        }
+        var m = new ISLISPModule();
+        for (var export: exports) {
+            m.addExport(export);
+        }
+        m.setDeferredLoader(loader);
+        modules.put(module, m);
+    }
+
+    /**
+     * Link deferred module with its dependencies once they have been loaded.
+     *
+     * @param module deferred module name
+     * @param requiredModules list of required modules, must exist.
+     */
+    public void importDeferredModuleDependencies(String module, List<String> requiredModules) {
+        addModuleImports(modules.get(module), requiredModules);
+    }
+
+    private void addModuleImports(ISLISPModule m, List<String> requiredModules) {
         m.addImport(modules.get("ROOT"));
         for (var req: requiredModules) {
             if (!modules.containsKey(req)) {
@@ -103,10 +170,6 @@ public class ISLISPContext {
             }
             m.addImport(modules.get(req));
         }
-        for (var export: exports) {
-            m.addExport(export);
-        }
-        modules.put(module, m);
     }
 
     /**
@@ -213,6 +276,7 @@ public class ISLISPContext {
         initGlobalFunction("signal-condition", ISLISPSignalCondition::makeLispFunction);
         initGlobalFunction("standard-output", ISLISPStandardOutputStream::makeLispFunction);
         initGlobalFunction("standard-input", ISLISPStandardInputStream::makeLispFunction);
+        initGlobalFunction("string-append", ISLISPStringAppend::makeLispFunction);
         initGlobalFunction("tan", ISLISPTrigFunctions::makeLispFunctionTan);
         initGlobalFunction("truncate", ISLISPRoundingFunctions::makeLispFunctionTruncate);
         initGlobalFunction("error-output", ISLISPErrorOutputStream::makeLispFunction);
@@ -307,7 +371,7 @@ public class ISLISPContext {
         var parentClasses = Arrays.stream(parents)
                 .map(pname -> root.lookupClass(namedSymbol(pname).identityReference()))
                 .toList();
-        root.registerClass(symbol.identityReference(), new BuiltinClass(parentClasses, symbol, false));
+        root.registerClass(symbol.identityReference(), new BuiltinClass(nextClassId(), parentClasses, symbol, false));
     }
 
     /**
@@ -321,6 +385,7 @@ public class ISLISPContext {
         initBuiltin("<symbol>", "<object>");
         initBuiltin("<list>", "<object>");
         initBuiltin("<null>", "<symbol>", "<list>");
+        initBuiltin("<cons>", "<list>");
         initBuiltin("<integer>", "<number>");
         initBuiltin("<float>", "<number>");
         initBuiltin("<built-in-class>", "<object>");
@@ -343,8 +408,8 @@ public class ISLISPContext {
      * Initialize builtin constants.
      */
     void initBuiltinVars() {
-        modules.get("ROOT").registerGlobalVar(getNil().identityReference(), getNil(), true);
-        modules.get("ROOT").registerGlobalVar(getT().identityReference(), getT(), true);
+        modules.get("ROOT").registerGlobalVar(Symbol.NIL.identityReference(), Symbol.NIL, true);
+        modules.get("ROOT").registerGlobalVar(Symbol.T.identityReference(), Symbol.T, true);
     }
 
     /**
@@ -357,22 +422,47 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerGlobalVar(String module, SymbolReference symbolReference, Object init, boolean readonly) {
+        bindingsVersion++;
         modules.get(module).registerGlobalVar(symbolReference, init, readonly);
     }
 
     /**
-     * Find an associated property's value reference with a symbol. Creates if missing.
+     * Keep symbol strongly reachable, so that it isn't dropped from the symbol table
+     * together with its properties while it's not referenced from anywhere else.
+     *
+     * @param symbol symbol that was assigned a property
+     */
+    @CompilerDirectives.TruffleBoundary
+    public void retainSymbolWithProperties(SymbolReference symbol) {
+        symbolsWithProperties.add(symbol);
+    }
+
+    /**
+     * Stop keeping symbol reachable after its last property was removed.
      *
-     * @param symbol symbol
-     * @param property property
-     * @return property's value reference
+     * @param symbol symbol that no longer has properties
      */
     @CompilerDirectives.TruffleBoundary
-    public ValueReference lookupSymbolProperty(SymbolReference symbol, SymbolReference property) {
-        symbolProperties.putIfAbsent(symbol, new HashMap<>());
-        var properties = symbolProperties.get(symbol);
-        properties.putIfAbsent(property, new ValueReference());
-        return properties.get(property);
+    public void releaseSymbolWithProperties(SymbolReference symbol) {
+        symbolsWithProperties.remove(symbol);
+    }
+
+    /**
+     * Get object holding properties of a given symbol. That is the symbol's reference itself,
+     * except for nil and t, which are shared between contexts and whose properties are therefore held
+     * by this context.
+     *
+     * @param symbol symbol reference
+     * @return property holder
+     */
+    public SymbolReference getPropertyHolder(SymbolReference symbol) {
+        if (symbol == Symbol.NIL.identityReference()) {
+            return nilProperties;
+        }
+        if (symbol == Symbol.T.identityReference()) {
+            return tProperties;
+        }
+        return symbol;
     }
 
     /**
@@ -397,6 +487,7 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerSetfTransformer(String module, SymbolReference symbolReference, SetfTransformer transformer) {
+        bindingsVersion++;
         modules.get(module).registerSetfTransformer(symbolReference, transformer);
     }
 
@@ -421,6 +512,7 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerDynamicVar(String module, SymbolReference symbolReference, ValueReference v) {
+        bindingsVersion++;
         modules.get(module).registerDynamicVar(symbolReference, v);
     }
 
@@ -445,6 +537,7 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerFunction(String module, SymbolReference symbolReference, LispFunction function) {
+        bindingsVersion++;
         modules.get(module).registerFunction(symbolReference, function);
     }
 
@@ -490,6 +583,7 @@ public class ISLISPContext {
             LispFunction function,
             GenericFunctionDescriptor descriptor
     ) {
+        bindingsVersion++;
         modules.get(module).registerGenericFunction(symbolReference, setf, function, descriptor);
     }
 
@@ -519,9 +613,23 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerMacro(String module, SymbolReference symbolReference, LispFunction function) {
+        bindingsVersion++;
+        if (macroExpansionCache != null) {
+            var previous = modules.get(module).lookupMacro(symbolReference);
+            if (previous != null) {
+                macroExpansionCache.invalidate(previous);
+            }
+        }
         modules.get(module).registerMacro(symbolReference, function);
     }
 
+    /**
+     * @return macro expansion cache, or null if expansion caching is disabled.
+     */
+    public MacroExpansionCache getMacroExpansionCache() {
+        return macroExpansionCache;
+    }
+
     /**
      * Find macro by given symbol reference name.
      *
@@ -543,6 +651,7 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerClass(String module, SymbolReference symbolReference, LispClass clazz) {
+        bindingsVersion++;
         modules.get(module).registerClass(symbolReference, clazz);
     }
 
@@ -612,6 +721,87 @@ public class ISLISPContext {
         return currentErrorStream;
     }
 
+    /**
+     * Version of global bindings, changes whenever any global binding gets (re)defined.
+     * Lets nodes reusing results of parsing notice that the parse might have turned out differently.
+     *
+     * @return bindings version
+     */
+    public int getBindingsVersion() {
+        return bindingsVersion;
+    }
+
+    /**
+     * Allocate id for a newly created class.
+     *
+     * @return unique class id
+     */
+    public int nextClassId() {
+        return classIdCounter++;
+    }
+
+    /**
+     * @return whether code given to `eval` is cached.
+     */
+    public boolean isEvalCacheEnabled() {
+        return evalCache != null;
+    }
+
+    /**
+     * Find cached call target for code previously given to `eval`; eval caching must be enabled.
+     *
+     * @param code source code
+     * @return call target or null if not cached
+     */
+    @CompilerDirectives.TruffleBoundary
+    public CallTarget lookupEvalCache(String code) {
+        return evalCache.get(code);
+    }
+
+    /**
+     * Cache call target for code given to `eval`; eval caching must be enabled.
+     * Only a limited amount of most recently used entries are kept.
+     *
+     * @param code source code
+     * @param callTarget call target evaluating the code
+     */
+    @CompilerDirectives.TruffleBoundary
+    public void putEvalCache(String code, CallTarget callTarget) {
+        evalCache.put(code, callTarget);
+    }
+
+    /**
+     * Find where each character of a java string starts, so that it can be indexed by character
+     * in constant time even if it contains surrogate pairs. Computed once per string and cached for as long
+     * as the string is alive.
+     *
+     * @param str java string
+     * @return char offset of each codepoint, or null if str has no surrogates and can be indexed by char directly
+     */
+    @CompilerDirectives.TruffleBoundary
+    public int[] codepointOffsets(String str) {
+        var offsets = codepointOffsets.get(str);
+        if (offsets == null) {
+            offsets = computeCodepointOffsets(str);
+            codepointOffsets.put(str, offsets);
+        }
+        return offsets == NO_SURROGATES ? null : offsets;
+    }
+
+    private static int[] computeCodepointOffsets(String str) {
+        var count = str.codePointCount(0, str.length());
+        if (count == str.length()) {
+            return NO_SURROGATES;
+        }
+        var offsets = new int[count];
+        var offset = 0;
+        for (int i = 0; i < count; i++) {
+            offsets[i] = offset;
+            offset += Character.charCount(str.codePointAt(offset));
+        }
+        return offsets;
+    }
+
     /**
      * Get associated language reference.
      *
@@ -637,32 +827,7 @@ public class ISLISPContext {
      */
     @CompilerDirectives.TruffleBoundary
     public Symbol namedSymbol(String name) {
-        var v = symbols.computeIfAbsent(name, k -> new SymbolReference());
-        return new Symbol(name, v);
-    }
-
-    /**
-     * Get `nil` symbol.
-     *
-     * @return nil symbol
-     */
-    public Symbol getNil() {
-        if (nil == null) {
-            nil = namedSymbol("nil");
-        }
-        return nil;
-    }
-
-    /**
-     * Get `t` symbol.
-     *
-     * @return t symbol
-     */
-    public Symbol getT() {
-        if (t == null) {
-            t = namedSymbol("t");
-        }
-        return t;
+        return symbols.intern(name);
     }
 
     private int gensymIndex = 1;
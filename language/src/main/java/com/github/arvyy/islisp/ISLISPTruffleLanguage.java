@@ -43,6 +43,30 @@ public class ISLISPTruffleLanguage extends TruffleLanguage<ISLISPContext> {
     public static final OptionKey<String> Sourcepath = new OptionKey<>(".");
     // CHECKSTYLE:ON
 
+    @Option(help =
+        "Defer loading required modules, which only export functions and classes, "
+        + "until one of their exports is first used.",
+        category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL)
+    // CHECKSTYLE:OFF
+    public static final OptionKey<Boolean> LazyRequires = new OptionKey<>(false);
+    // CHECKSTYLE:ON
+
+    @Option(help =
+        "Reuse macro expansions of structurally equal forms instead of rerunning the macro. "
+        + "Only correct if macros don't depend on anything besides the form being expanded.",
+        category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL)
+    // CHECKSTYLE:OFF
+    public static final OptionKey<Boolean> CacheMacroExpansions = new OptionKey<>(false);
+    // CHECKSTYLE:ON
+
+    @Option(help =
+        "Reuse parsed ISLISP code given to `eval` when evaluating the same code string again, "
+        + "as long as no global definitions change. Macros used by such code are then not rerun.",
+        category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL)
+    // CHECKSTYLE:OFF
+    public static final OptionKey<Boolean> CacheEval = new OptionKey<>(false);
+    // CHECKSTYLE:ON
+
     @Override
     public ISLISPContext createContext(Env env) {
         return new ISLISPContext(this, env);
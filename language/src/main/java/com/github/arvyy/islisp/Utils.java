@@ -2,6 +2,7 @@ package com.github.arvyy.islisp;
 
 import com.github.arvyy.islisp.runtime.Pair;
 import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.CompilerDirectives;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,7 +38,7 @@ public final class Utils {
             }
             return lst;
         } else if (v instanceof Symbol s) {
-            if (s.identityReference() == ISLISPContext.get(null).getNil().identityReference()) {
+            if (s.identityReference() == Symbol.NIL.identityReference()) {
                 return List.of();
             }
         }
@@ -58,7 +59,7 @@ public final class Utils {
                 size++;
                 i = p.cdr();
             } else if (i instanceof Symbol s) {
-                if (s.identityReference() == ISLISPContext.get(null).getNil().identityReference()) {
+                if (s.identityReference() == Symbol.NIL.identityReference()) {
                     break;
                 } else {
                     throw new NotAList();
@@ -84,7 +85,7 @@ public final class Utils {
      * @return sexpr
      */
     public static Object listToValue(List<Object> lst) {
-        Object val = ISLISPContext.get(null).getNil();
+        Object val = Symbol.NIL;
         for (int i = lst.size() - 1; i >= 0; i--) {
             val = new Pair(lst.get(i), val);
         }
@@ -101,9 +102,7 @@ public final class Utils {
      * @return true if o is nil
      */
     public static boolean isNil(Object o) {
-        var ctx = ISLISPContext.get(null);
-        var nil = ctx.getNil();
-        return o instanceof Symbol s && s.identityReference() == nil.identityReference();
+        return o instanceof Symbol s && s.identityReference() == Symbol.NIL.identityReference();
     }
 
     /**
@@ -113,9 +112,40 @@ public final class Utils {
      * @return t if b was true, nil otherwise
      */
     public static Object booleanToSymbol(boolean b) {
-        var ctx = ISLISPContext.get(null);
-        var nil = ctx.getNil();
-        var t = ctx.getT();
-        return b ? t : nil;
+        return b ? Symbol.T : Symbol.NIL;
+    }
+
+    /**
+     * Count characters of a java string, where a surrogate pair counts as a single character.
+     *
+     * @param str java string
+     * @return count of codepoints
+     */
+    @CompilerDirectives.TruffleBoundary
+    public static int codepointCount(String str) {
+        return str.codePointCount(0, str.length());
+    }
+
+    /**
+     * Count characters of a java string, where a surrogate pair counts as a single character.
+     *
+     * @param str java string
+     * @param offsets str's codepoint offsets, as given by {@link ISLISPContext#codepointOffsets(String)}
+     * @return count of codepoints
+     */
+    public static int codepointCount(String str, int[] offsets) {
+        return offsets == null ? str.length() : offsets.length;
+    }
+
+    /**
+     * Get character of a java string by its codepoint index; index must be in range.
+     *
+     * @param str java string
+     * @param offsets str's codepoint offsets, as given by {@link ISLISPContext#codepointOffsets(String)}
+     * @param index codepoint index
+     * @return character's codepoint
+     */
+    public static int codepointAt(String str, int[] offsets, int index) {
+        return offsets == null ? str.charAt(index) : str.codePointAt(offsets[index]);
     }
 }
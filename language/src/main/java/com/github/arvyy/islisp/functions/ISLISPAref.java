@@ -1,6 +1,7 @@
 package com.github.arvyy.islisp.functions;
 
 import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.*;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -84,11 +85,13 @@ public abstract class ISLISPAref extends RootNode {
             return signalWrongDimension(s, 1, lookup.length);
         }
         var index = lookup[0];
-        if (index < 0 || index >= s.length()) {
-            return errorSignalerNode.signalIndexOutOfRange(index, s.length());
+        var offsets = ISLISPContext.get(this).codepointOffsets(s);
+        var length = Utils.codepointCount(s, offsets);
+        if (index < 0 || index >= length) {
+            return errorSignalerNode.signalIndexOutOfRange(index, length);
         }
-        var c = s.codePointAt(index);
-        return new LispChar(c);
+        var c = Utils.codepointAt(s, offsets, index);
+        return LispChar.valueOf(c);
     }
 
     @Specialization
@@ -97,10 +100,10 @@ public abstract class ISLISPAref extends RootNode {
             return signalWrongDimension(s, 1, lookup.length);
         }
         var index = lookup[0];
-        if (index < 0 || index >= s.chars().length) {
-            return errorSignalerNode.signalIndexOutOfRange(index, s.chars().length);
+        if (index < 0 || index >= s.length()) {
+            return errorSignalerNode.signalIndexOutOfRange(index, s.length());
         }
-        return s.chars()[index];
+        return LispChar.valueOf(s.codepointAt(index));
     }
 
     @CompilerDirectives.TruffleBoundary
@@ -4,6 +4,7 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispChar;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -35,8 +36,7 @@ public abstract class ISLISPCharLt extends RootNode {
 
     @Specialization
     Object doProper(LispChar a, LispChar b) {
-        var ctx = ISLISPContext.get(this);
-        return a.codepoint() < b.codepoint() ? ctx.getT() : ctx.getNil();
+        return a.codepoint() < b.codepoint() ? Symbol.T : Symbol.NIL;
     }
 
     @Fallback
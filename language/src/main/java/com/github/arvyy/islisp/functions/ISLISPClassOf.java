@@ -23,9 +23,16 @@ public abstract class ISLISPClassOf extends RootNode {
 
     ISLISPClassOf(TruffleLanguage<?> language) {
         super(language);
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
     }
 
-    abstract Object executeGeneric(Object value);
+    /**
+     * Find class of a given value. Lets other nodes embed class-of directly instead of calling it.
+     *
+     * @param value value
+     * @return value's class
+     */
+    public abstract Object executeGeneric(Object value);
 
     @Override
     public final Object execute(VirtualFrame frame) {
@@ -73,6 +80,22 @@ public abstract class ISLISPClassOf extends RootNode {
         return lispClass;
     }
 
+    @Specialization
+    LispClass doMutableString(
+        LispMutableString str,
+        @Cached(value = "loadStringClass()", neverDefault = true) LispClass lispClass
+    ) {
+        return lispClass;
+    }
+
+    @Specialization
+    LispClass doPair(
+        Pair pair,
+        @Cached(value = "loadConsClass()", neverDefault = true) LispClass lispClass
+    ) {
+        return lispClass;
+    }
+
     @Specialization
     LispClass doFunction(
             LispFunction fun,
@@ -85,7 +108,7 @@ public abstract class ISLISPClassOf extends RootNode {
             Symbol symbol,
             @Cached("loadNullClass()") LispClass nullClass,
             @Cached("loadSymbolClass()") LispClass symbolClass) {
-        return symbol.name().equals("NIL") ? nullClass : symbolClass;
+        return symbol.identityReference() == Symbol.NIL.identityReference() ? nullClass : symbolClass;
     }
 
     @Specialization
@@ -188,6 +211,9 @@ public abstract class ISLISPClassOf extends RootNode {
     LispClass loadSymbolClass() {
         return loadClass("<symbol>");
     }
+    LispClass loadConsClass() {
+        return loadClass("<cons>");
+    }
 
     LispClass loadBuiltinClass() {
         return loadClass("<built-in-class>");
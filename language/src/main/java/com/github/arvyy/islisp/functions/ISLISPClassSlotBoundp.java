@@ -1,6 +1,5 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.StandardClass;
 import com.github.arvyy.islisp.runtime.StandardClassObject;
 import com.github.arvyy.islisp.runtime.Symbol;
@@ -10,7 +9,6 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
-import com.oracle.truffle.api.staticobject.StaticProperty;
 
 /**
  * Function instantiated for defclass slots with :boundp option.
@@ -42,28 +40,26 @@ public abstract class ISLISPClassSlotBoundp extends RootNode {
     Object doSpecialized(
             StandardClassObject clsObject,
             @Cached("clsObject.clazz()") StandardClass clazz,
-            @Cached("lookupProperty(clazz)") StaticProperty property
+            @Cached("lookupSlot(clazz)") StandardClass.Slot classSlot
     ) {
-        var ctx = ISLISPContext.get(this);
-        return property.getObject(clsObject.data()) == null
-            ? ctx.getNil()
-            : ctx.getT();
+        return !classSlot.isBound(clsObject)
+            ? Symbol.NIL
+            : Symbol.T;
     }
 
     @Specialization
     Object doUnspecialized(StandardClassObject clsObject) {
-        var property = lookupProperty(clsObject.clazz());
-        var ctx = ISLISPContext.get(this);
-        return property.getObject(clsObject.data()) == null
-            ? ctx.getNil()
-            : ctx.getT();
+        var classSlot = lookupSlot(clsObject.clazz());
+        return !classSlot.isBound(clsObject)
+            ? Symbol.NIL
+            : Symbol.T;
     }
 
     @CompilerDirectives.TruffleBoundary
-    StaticProperty lookupProperty(StandardClass clazz) {
+    StandardClass.Slot lookupSlot(StandardClass clazz) {
         for (var classSlot: clazz.slots()) {
             if (classSlot.name().equals(slot.identityReference())) {
-                return classSlot.property();
+                return classSlot;
             }
         }
         return null;
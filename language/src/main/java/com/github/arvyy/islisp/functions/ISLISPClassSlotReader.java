@@ -1,6 +1,5 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.StandardClass;
 import com.github.arvyy.islisp.runtime.StandardClassObject;
 import com.github.arvyy.islisp.runtime.Symbol;
@@ -10,7 +9,6 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
-import com.oracle.truffle.api.staticobject.StaticProperty;
 
 import java.util.Objects;
 
@@ -44,23 +42,29 @@ public abstract class ISLISPClassSlotReader extends RootNode {
     Object doSpecialized(
             StandardClassObject clsObject,
             @Cached("clsObject.clazz()") StandardClass clazz,
-            @Cached("lookupProperty(clazz)") StaticProperty property
+            @Cached("lookupSlot(clazz)") StandardClass.Slot classSlot
     ) {
-        return Objects.requireNonNullElse(property.getObject(clsObject.data()), ISLISPContext.get(this).getNil());
+        return Objects.requireNonNullElse(classSlot.read(clsObject), Symbol.NIL);
     }
 
     @Specialization
     Object doUnspecialized(StandardClassObject clsObject) {
         return Objects.requireNonNullElse(
-            lookupProperty(clsObject.clazz()).getObject(clsObject.data()),
-            ISLISPContext.get(this).getNil());
+            lookupSlot(clsObject.clazz()).read(clsObject),
+            Symbol.NIL);
     }
 
+    /**
+     * Find this node's slot in the given class.
+     *
+     * @param clazz class
+     * @return slot or null if class doesn't have such slot
+     */
     @CompilerDirectives.TruffleBoundary
-    StaticProperty lookupProperty(StandardClass clazz) {
+    public StandardClass.Slot lookupSlot(StandardClass clazz) {
         for (var classSlot: clazz.slots()) {
             if (classSlot.name().equals(slot.identityReference())) {
-                return classSlot.property();
+                return classSlot;
             }
         }
         return null;
@@ -1,6 +1,7 @@
 package com.github.arvyy.islisp.functions;
 
 import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.StandardClass;
 import com.github.arvyy.islisp.runtime.StandardClassObject;
 import com.github.arvyy.islisp.runtime.Symbol;
@@ -10,7 +11,6 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
-import com.oracle.truffle.api.staticobject.StaticProperty;
 
 /**
  * Function instantiated for defclass slots with :writer option.
@@ -19,6 +19,9 @@ public abstract class ISLISPClassSlotWriter extends RootNode {
 
     private final Symbol slot;
 
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
+
     /**
      * Create slot writer root node.
      *
@@ -28,6 +31,7 @@ public abstract class ISLISPClassSlotWriter extends RootNode {
     public ISLISPClassSlotWriter(Symbol slot, TruffleLanguage<?> language) {
         super(language);
         this.slot = slot;
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
     }
 
     @Override
@@ -44,23 +48,39 @@ public abstract class ISLISPClassSlotWriter extends RootNode {
             Object value,
             StandardClassObject clsObject,
             @Cached("clsObject.clazz()") StandardClass clazz,
-            @Cached("lookupProperty(clazz)") StaticProperty property
+            @Cached("lookupSlot(clazz)") StandardClass.Slot classSlot
     ) {
-        property.setObject(clsObject.data(), value);
-        return ISLISPContext.get(this).getNil();
+        if (!classSlot.write(clsObject, value)) {
+            return signalWrongSlotType(value, classSlot);
+        }
+        return Symbol.NIL;
     }
 
     @Specialization
     Object doUnspecialized(Object value, StandardClassObject clsObject) {
-        lookupProperty(clsObject.clazz()).setObject(clsObject.data(), value);
-        return ISLISPContext.get(this).getNil();
+        var classSlot = lookupSlot(clsObject.clazz());
+        if (!classSlot.write(clsObject, value)) {
+            return signalWrongSlotType(value, classSlot);
+        }
+        return Symbol.NIL;
+    }
+
+    Object signalWrongSlotType(Object value, StandardClass.Slot classSlot) {
+        var expectedClass = ISLISPContext.get(this).lookupClass(classSlot.type().className());
+        return errorSignalerNode.signalWrongType(value, expectedClass);
     }
 
+    /**
+     * Find this node's slot in the given class.
+     *
+     * @param clazz class
+     * @return slot or null if class doesn't have such slot
+     */
     @CompilerDirectives.TruffleBoundary
-    StaticProperty lookupProperty(StandardClass clazz) {
+    public StandardClass.Slot lookupSlot(StandardClass clazz) {
         for (var classSlot: clazz.slots()) {
             if (classSlot.name().equals(slot.identityReference())) {
-                return classSlot.property();
+                return classSlot;
             }
         }
         return null;
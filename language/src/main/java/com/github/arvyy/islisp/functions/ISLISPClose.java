@@ -4,6 +4,7 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -33,7 +34,7 @@ public class ISLISPClose extends RootNode {
         var ctx = ISLISPContext.get(this);
         if (arg instanceof LispStream stream) {
             close(stream);
-            return ctx.getNil();
+            return Symbol.NIL;
         }
         return errorSignalerNode.signalWrongType(arg, ctx.lookupClass("<stream>"));
     }
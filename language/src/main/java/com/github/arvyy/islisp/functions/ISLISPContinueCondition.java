@@ -1,9 +1,9 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.exceptions.ISLISPContinueException;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
@@ -27,7 +27,7 @@ public class ISLISPContinueCondition extends RootNode {
         }
         Object value;
         if (frame.getArguments().length == 2) {
-            value = ISLISPContext.get(this).getNil();
+            value = Symbol.NIL;
         } else {
             value = frame.getArguments()[2];
         }
@@ -67,7 +67,7 @@ public abstract class ISLISPCreateArray extends RootNode {
         if (frame.getArguments().length == 3) {
             initValue = frame.getArguments()[2];
         } else {
-            initValue = ISLISPContext.get(this).getNil();
+            initValue = Symbol.NIL;
         }
         return executeGeneric(frame.getArguments()[1], initValue);
     }
@@ -3,18 +3,27 @@ package com.github.arvyy.islisp.functions;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPFunctionDispatchNode;
 import com.github.arvyy.islisp.nodes.ISLISPFunctionDispatchNodeGen;
+import com.github.arvyy.islisp.runtime.GenericFunctionDescriptor;
+import com.github.arvyy.islisp.runtime.LispClass;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.StandardClass;
-import com.github.arvyy.islisp.runtime.StandardClassObject;
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.ReportPolymorphism;
+import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
 
 /**
  * Implements `create` method for &lt;standard-class&gt;.
+ * For classes that don't have user defined `initialize-object` methods applicable,
+ * allocates and initializes the object in place using a per-class initializer instead
+ * of dispatching `initialize-object`.
  */
-public class ISLISPCreateStandardClassObject extends RootNode {
+@ReportPolymorphism
+public abstract class ISLISPCreateStandardClassObject extends RootNode {
 
     @Child
     ISLISPFunctionDispatchNode dispatchNode;
@@ -22,33 +31,79 @@ public class ISLISPCreateStandardClassObject extends RootNode {
     @CompilerDirectives.CompilationFinal
     private LispFunction initializeObjectFunction;
 
+    @CompilerDirectives.CompilationFinal
+    GenericFunctionDescriptor initializeObjectDescriptor;
+
     ISLISPCreateStandardClassObject(TruffleLanguage<?> language) {
         super(language);
         dispatchNode = ISLISPFunctionDispatchNodeGen.create();
     }
 
     @Override
-    public Object execute(VirtualFrame frame) {
+    public final Object execute(VirtualFrame frame) {
         if (initializeObjectFunction == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
             var ctx = ISLISPContext.get(this);
-            initializeObjectFunction = ctx.lookupFunction(
-                "ROOT", ctx.namedSymbol("initialize-object").identityReference());
+            var name = ctx.namedSymbol("initialize-object").identityReference();
+            initializeObjectFunction = ctx.lookupFunction("ROOT", name);
+            initializeObjectDescriptor = ctx.lookupGenericFunctionDispatchTree("ROOT", name, false);
         }
         var clazz = (StandardClass) frame.getArguments()[1];
-        var obj = new StandardClassObject(clazz, clazz.shape().getFactory().create());
-        var args = new Object[frame.getArguments().length - 1];
+        return executeGeneric(clazz, frame.getArguments());
+    }
+
+    abstract Object executeGeneric(StandardClass clazz, Object[] arguments);
+
+    @Specialization(
+        guards = {
+            "clazz == cachedClass",
+            "defaultInitialization"
+        },
+        assumptions = "initializeObjectAssumption",
+        limit = "3")
+    Object doDefaultInitialization(
+        StandardClass clazz,
+        Object[] arguments,
+        @Cached("initializeObjectDescriptor.getAssumption()") Assumption initializeObjectAssumption,
+        @Cached("clazz") StandardClass cachedClass,
+        @Cached("hasDefaultInitialization(cachedClass)") boolean defaultInitialization,
+        @Cached("new(cachedClass)") ISLISPStandardClassInitializerNode initializer
+    ) {
+        var obj = cachedClass.shape().getFactory().create(cachedClass);
+        initializer.initialize(obj, arguments, 2);
+        return obj;
+    }
+
+    @Specialization
+    Object doDispatch(StandardClass clazz, Object[] arguments) {
+        var obj = clazz.shape().getFactory().create(clazz);
+        var args = new Object[arguments.length - 1];
         args[0] = obj;
-        System.arraycopy(frame.getArguments(), 2, args, 1, args.length - 1);
+        System.arraycopy(arguments, 2, args, 1, args.length - 1);
         return dispatchNode.executeDispatch(initializeObjectFunction, args);
     }
 
+    boolean hasDefaultInitialization(StandardClass clazz) {
+        var methods = initializeObjectDescriptor.getApplicableMethods(new LispClass[] {clazz});
+        return methods.aroundMethods().size() == 0
+            && methods.beforeMethods().size() == 0
+            && methods.afterMethods().size() == 0
+            && methods.primaryMethods().size() == 1
+            && ISLISPInitializeObject.isBaseMethod(methods.primaryMethods().get(0));
+    }
+
     /**
      * Construct LispFunction using this root node.
      * @param lang truffle language reference
      * @return lisp function
      */
     public static LispFunction makeLispFunction(TruffleLanguage<?> lang) {
-        return new LispFunction(new ISLISPCreateStandardClassObject(lang).getCallTarget());
+        return new LispFunction(ISLISPCreateStandardClassObjectNodeGen.create(lang).getCallTarget());
+    }
+
+    @Override
+    public boolean isCloningAllowed() {
+        return true;
     }
 
 }
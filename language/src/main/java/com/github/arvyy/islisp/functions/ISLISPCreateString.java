@@ -33,7 +33,7 @@ public abstract class ISLISPCreateString extends RootNode {
         var count = frame.getArguments()[1];
         var character = frame.getArguments().length == 3
             ? frame.getArguments()[2]
-            : new LispChar('?');
+            : LispChar.valueOf('?');
         return executeGeneric(count, character);
     }
 
@@ -41,11 +41,7 @@ public abstract class ISLISPCreateString extends RootNode {
 
     @Specialization
     Object doProper(int count, LispChar lispChar) {
-        var datum = new LispChar[count];
-        for (int i = 0; i < count; i++) {
-            datum[i] = lispChar;
-        }
-        return new LispMutableString(datum);
+        return LispMutableString.filled(count, lispChar.codepoint());
     }
 
     @Fallback
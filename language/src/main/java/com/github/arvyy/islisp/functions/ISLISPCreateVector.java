@@ -1,8 +1,8 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispVector;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
@@ -24,7 +24,7 @@ public class ISLISPCreateVector extends RootNode {
         if (frame.getArguments().length == 3) {
             el = frame.getArguments()[2];
         } else {
-            el = ISLISPContext.get(this).getNil();
+            el = Symbol.NIL;
         }
         var values = new Object[(int) frame.getArguments()[1]];
         Arrays.fill(values, el);
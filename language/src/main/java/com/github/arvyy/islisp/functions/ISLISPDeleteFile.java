@@ -3,6 +3,7 @@ package com.github.arvyy.islisp.functions;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -47,7 +48,7 @@ public abstract class ISLISPDeleteFile extends RootNode {
             file.delete();
         } catch (IOException e) {
         }
-        return ISLISPContext.get(this).getNil();
+        return Symbol.NIL;
     }
 
     @Specialization(guards = {
@@ -91,18 +91,20 @@ public abstract class ISLISPElt extends RootNode {
 
     @Specialization
     Object doString(String str, int index) {
-        if (index < 0 || index >= str.length()) {
-            return errorSignalerNode.signalIndexOutOfRange(index, str.length());
+        var offsets = ISLISPContext.get(this).codepointOffsets(str);
+        var length = Utils.codepointCount(str, offsets);
+        if (index < 0 || index >= length) {
+            return errorSignalerNode.signalIndexOutOfRange(index, length);
         }
-        return new LispChar(str.codePointAt(index));
+        return LispChar.valueOf(Utils.codepointAt(str, offsets, index));
     }
 
     @Specialization
     Object doMutableString(LispMutableString str, int index) {
-        if (index < 0 || index >= str.chars().length) {
-            return errorSignalerNode.signalIndexOutOfRange(index, str.chars().length);
+        if (index < 0 || index >= str.length()) {
+            return errorSignalerNode.signalIndexOutOfRange(index, str.length());
         }
-        return str.chars()[index];
+        return LispChar.valueOf(str.codepointAt(index));
     }
 
     @Specialization(guards = {
@@ -1,6 +1,5 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Symbol;
@@ -27,9 +26,9 @@ public class ISLISPEq extends RootNode {
             return errorSignalerNode.signalWrongArgumentCount(frame.getArguments().length - 1, 2, 2);
         }
         if (isEq(frame.getArguments()[1], frame.getArguments()[2])) {
-            return ISLISPContext.get(null).getT();
+            return Symbol.T;
         } else {
-            return ISLISPContext.get(null).getNil();
+            return Symbol.NIL;
         }
     }
 
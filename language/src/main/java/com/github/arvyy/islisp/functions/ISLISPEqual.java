@@ -43,7 +43,7 @@ public abstract class ISLISPEqual extends RootNode {
     }
 
     Object isEqual(Object o1, Object o2) {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         var isEq = getEqCallNode().call(null, o1, o2);
         if (isEq instanceof Symbol s && s.identityReference() == nil.identityReference()) {
             return executeGeneric(o1, o2);
@@ -56,42 +56,21 @@ public abstract class ISLISPEqual extends RootNode {
 
     @Specialization
     Object doStrings(String s1, String s2) {
-        var ctx = ISLISPContext.get(this);
         if (s1.equals(s2)) {
-            return ctx.getT();
+            return Symbol.T;
         } else {
-            return ctx.getNil();
+            return Symbol.NIL;
         }
     }
 
     @Specialization
     Object doMutableStrings(LispMutableString s1, LispMutableString s2) {
-        var ctx = ISLISPContext.get(this);
-        if (s1.chars().length != s2.chars().length) {
-            return ctx.getNil();
-        }
-        int l = s1.chars().length;
-        for (int i = 0; i < l; i++) {
-            if (s1.chars()[i].codepoint() != s2.chars()[i].codepoint()) {
-                return ctx.getNil();
-            }
-        }
-        return ctx.getT();
+        return s1.contentEquals(s2) ? Symbol.T : Symbol.NIL;
     }
 
     @Specialization
     Object doStringAndMutableString(String s1, LispMutableString s2) {
-        var ctx = ISLISPContext.get(this);
-        if (s1.length() != s2.chars().length) {
-            return ctx.getNil();
-        }
-        int l = s1.length();
-        for (int i = 0; i < l; i++) {
-            if (s1.codePointAt(i) != s2.chars()[i].codepoint()) {
-                return ctx.getNil();
-            }
-        }
-        return ctx.getT();
+        return s2.contentEquals(s1) ? Symbol.T : Symbol.NIL;
     }
 
     @Specialization
@@ -101,8 +80,7 @@ public abstract class ISLISPEqual extends RootNode {
 
     @Specialization
     Object doPairs(Pair p1, Pair p2) {
-        var ctx = ISLISPContext.get(this);
-        var nil = ctx.getNil();
+        var nil = Symbol.NIL;
         if (isNil(isEqual(p1.car(), p2.car()))) {
             return nil;
         }
@@ -111,8 +89,7 @@ public abstract class ISLISPEqual extends RootNode {
 
     @Specialization
     Object doVectors(LispVector v1, LispVector v2) {
-        var ctx = ISLISPContext.get(this);
-        var nil = ctx.getNil();
+        var nil = Symbol.NIL;
         if (v1.values().length != v2.values().length) {
             return nil;
         }
@@ -121,7 +98,7 @@ public abstract class ISLISPEqual extends RootNode {
                 return nil;
             }
         }
-        return ctx.getT();
+        return Symbol.T;
     }
 
     @Specialization
@@ -142,8 +119,7 @@ public abstract class ISLISPEqual extends RootNode {
 
     @Fallback
     Object doFallback(Object o1, Object o2) {
-        var ctx = ISLISPContext.get(this);
-        return o1 == o2 ? ctx.getT() : ctx.getNil();
+        return o1 == o2 ? Symbol.T : Symbol.NIL;
     }
 
 
@@ -2,6 +2,7 @@ package com.github.arvyy.islisp.functions;
 
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.parser.Parser;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
@@ -38,6 +39,15 @@ public class ISLISPEval extends RootNode {
     @CompilerDirectives.TruffleBoundary
     Object executeBoundary(String lang, String script) {
         var ctx = ISLISPContext.get(this);
+        if ("islisp".equals(lang) && ctx.isEvalCacheEnabled()) {
+            var target = ctx.lookupEvalCache(script);
+            if (target == null) {
+                var source = Source.newBuilder(lang, script, "<eval>").build();
+                target = new Parser().createEvalNode(ctx.getLanguage(), source).getCallTarget();
+                ctx.putEvalCache(script, target);
+            }
+            return target.call();
+        }
         var env = ctx.getEnv();
         var source = Source.newBuilder(lang, script, "<eval>").build();
         var target = env.parsePublic(source);
@@ -2,6 +2,7 @@ package com.github.arvyy.islisp.functions;
 
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
@@ -19,7 +20,7 @@ public class ISLISPExit extends RootNode {
     public Object execute(VirtualFrame frame) {
         var ctx = ISLISPContext.get(this);
         ctx.getEnv().getContext().closeExited(this, (int) frame.getArguments()[1]);
-        return ctx.getNil();
+        return Symbol.NIL;
     }
 
     /**
@@ -4,6 +4,7 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -66,7 +67,6 @@ public class ISLISPFormat extends RootNode {
 
     @CompilerDirectives.TruffleBoundary
     Object executeBoundary(LispStream os, String formatString, Object[] args) {
-        var ctx = ISLISPContext.get(this);
         try {
             int argIndex = 3;
             for (int i = 0; i < formatString.length(); i++) {
@@ -82,7 +82,7 @@ public class ISLISPFormat extends RootNode {
                             writeCodepoint(os, "~".codePointAt(0));
                         }
                         case 'A' ->
-                            formatObject().call(null, os, args[argIndex++], ctx.getNil());
+                            formatObject().call(null, os, args[argIndex++], Symbol.NIL);
                         case 'B' ->
                             formatInt().call(null, os, args[argIndex++], 2);
                         case 'C' ->
@@ -94,7 +94,7 @@ public class ISLISPFormat extends RootNode {
                         case 'O' ->
                             formatInt().call(null, os, args[argIndex++], 8);
                         case 'S' ->
-                            formatObject().call(null, os, args[argIndex++], ctx.getT());
+                            formatObject().call(null, os, args[argIndex++], Symbol.T);
                         case 'X' ->
                             formatInt().call(null, os, args[argIndex++], 16);
                         case '%' ->
@@ -111,7 +111,7 @@ public class ISLISPFormat extends RootNode {
             return errorSignalerNode.signalIOError(e);
         }
 
-        return ctx.getNil();
+        return Symbol.NIL;
     }
 
     @CompilerDirectives.TruffleBoundary
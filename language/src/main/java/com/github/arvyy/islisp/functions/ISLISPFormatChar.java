@@ -5,6 +5,7 @@ import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispChar;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -54,7 +55,7 @@ public abstract class ISLISPFormatChar extends RootNode {
     Object doPrint(LispStream s, int codepoint) {
         try {
             s.writeCodepoint(codepoint);
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         } catch (IOException e) {
             return errorSignalerNode.signalIOError(e);
         }
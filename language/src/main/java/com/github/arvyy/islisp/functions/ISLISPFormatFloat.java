@@ -4,6 +4,7 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -53,7 +54,7 @@ public abstract class ISLISPFormatFloat extends RootNode {
     Object doPrint(LispStream stream, double f) {
         try {
             stream.write(Double.toString(f));
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         } catch (IOException e) {
             return errorSignalerNode.signalIOError(e);
         }
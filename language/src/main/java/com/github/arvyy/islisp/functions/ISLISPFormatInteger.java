@@ -6,6 +6,7 @@ import com.github.arvyy.islisp.nodes.ISLISPTypes;
 import com.github.arvyy.islisp.runtime.LispBigInteger;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -67,7 +68,7 @@ public abstract class ISLISPFormatInteger extends RootNode {
     Object doPrint(LispStream s, int value, int radix) {
         try {
             s.write(Integer.toString(value, radix).toUpperCase());
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         } catch (IOException e) {
             return errorSignalerNode.signalIOError(e);
         }
@@ -37,7 +37,7 @@ public abstract class ISLISPFormatObject extends RootNode {
 
     @Specialization
     Object doProper(LispStream stream, Object obj, Object escape) {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         try {
             doPrint(stream, obj, escape != nil);
             return nil;
@@ -91,9 +91,7 @@ public abstract class ISLISPFormatObject extends RootNode {
             if (escape) {
                 stream.write("\"");
             }
-            for (var c: s.chars()) {
-                stream.writeCodepoint(c.codepoint());
-            }
+            stream.write(s.toString());
             if (escape) {
                 stream.write("\"");
             }
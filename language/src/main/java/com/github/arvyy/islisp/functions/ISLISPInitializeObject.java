@@ -1,9 +1,13 @@
 package com.github.arvyy.islisp.functions;
 
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.StandardClassObject;
-import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
 
@@ -11,32 +15,51 @@ import com.oracle.truffle.api.nodes.RootNode;
  * Implements base `initialize-object` method for any standard-class object.
  * Assigns uninitialized fields initform or supplied initarg values.
  */
-public class ISLISPInitializeObject extends RootNode {
+public abstract class ISLISPInitializeObject extends RootNode {
+
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
 
     ISLISPInitializeObject(TruffleLanguage<?> language) {
         super(language);
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
     }
 
     @Override
     public final Object execute(VirtualFrame frame) {
         var obj = (StandardClassObject) frame.getArguments()[1];
-        var clazz = obj.clazz();
-        // TODO optimize
-        for (int i = 2; i < frame.getArguments().length; i += 2) {
-            var initArg = (Symbol) frame.getArguments()[i];
-            for (int j = 0; j < clazz.slots().length; j++) {
-                var slot = clazz.slots()[j];
-                if (slot.initArg() != null
-                    && slot.initArg().getId() == initArg.identityReference().getId()
-                    && slot.property().getObject(obj.data()) == null
-                ) {
-                    slot.property().setObject(obj.data(), frame.getArguments()[i + 1]);
-                }
-            }
-        }
+        return executeGeneric(obj, frame.getArguments());
+    }
+
+    abstract Object executeGeneric(StandardClassObject obj, Object[] arguments);
+
+    @Specialization(guards = "obj.clazz() == initializer.getStandardClass()", limit = "3")
+    Object doCached(
+        StandardClassObject obj,
+        Object[] arguments,
+        @Cached("new(obj.clazz())") ISLISPStandardClassInitializerNode initializer
+    ) {
+        initializer.initialize(obj, arguments, 2);
+        return obj;
+    }
+
+    @Specialization(replaces = "doCached")
+    Object doUncached(StandardClassObject obj, Object[] arguments) {
+        ISLISPStandardClassInitializerNode.initializeUncached(obj, arguments, 2, errorSignalerNode);
         return obj;
     }
 
+    /**
+     * Check if given call target is the base `initialize-object` method.
+     *
+     * @param callTarget call target
+     * @return true if call target's root is an instance of this class
+     */
+    public static boolean isBaseMethod(CallTarget callTarget) {
+        return callTarget instanceof RootCallTarget rootCallTarget
+            && rootCallTarget.getRootNode() instanceof ISLISPInitializeObject;
+    }
+
     /**
      * Construct LispFunction using this root node.
      *
@@ -44,7 +67,12 @@ public class ISLISPInitializeObject extends RootNode {
      * @return lisp function
      */
     public static LispFunction makeLispFunction(TruffleLanguage<?> lang) {
-        return new LispFunction(new ISLISPInitializeObject(lang).getCallTarget());
+        return new LispFunction(ISLISPInitializeObjectNodeGen.create(lang).getCallTarget());
+    }
+
+    @Override
+    public boolean isCloningAllowed() {
+        return true;
     }
 
 }
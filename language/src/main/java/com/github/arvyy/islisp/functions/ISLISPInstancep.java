@@ -1,14 +1,11 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.LispClass;
 import com.github.arvyy.islisp.runtime.LispFunction;
-import com.oracle.truffle.api.CallTarget;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
-import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
-import com.oracle.truffle.api.nodes.DirectCallNode;
 import com.oracle.truffle.api.nodes.RootNode;
 
 /**
@@ -16,8 +13,12 @@ import com.oracle.truffle.api.nodes.RootNode;
  */
 public abstract class ISLISPInstancep extends RootNode {
 
+    @Child
+    ISLISPClassOf classOf;
+
     ISLISPInstancep(TruffleLanguage<?> language) {
         super(language);
+        classOf = ISLISPClassOfNodeGen.create(language);
     }
 
     @Override
@@ -28,24 +29,9 @@ public abstract class ISLISPInstancep extends RootNode {
     abstract Object executeGeneric(Object obj, Object clazz);
 
     @Specialization
-    Object doProper(
-        Object obj,
-        LispClass clazz,
-        @Cached("create(getClassOfCallTarget())") DirectCallNode classOf,
-        @Cached("create(getSubclasspCallTarget())") DirectCallNode subclassp
-    ) {
-        var objClazz = classOf.call(null, obj);
-        return subclassp.call(null, objClazz, clazz);
-    }
-
-    CallTarget getClassOfCallTarget() {
-        var ctx =  ISLISPContext.get(this);
-        return ctx.lookupFunction("ROOT", ctx.namedSymbol("class-of").identityReference()).callTarget();
-    }
-
-    CallTarget getSubclasspCallTarget() {
-        var ctx =  ISLISPContext.get(this);
-        return ctx.lookupFunction("ROOT", ctx.namedSymbol("subclassp").identityReference()).callTarget();
+    Object doProper(Object obj, LispClass clazz) {
+        var objClazz = (LispClass) classOf.executeGeneric(obj);
+        return objClazz.isSubclassOf(clazz) ? Symbol.T : Symbol.NIL;
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.github.arvyy.islisp.functions;
 
 import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.*;
 import com.oracle.truffle.api.TruffleLanguage;
@@ -38,17 +39,17 @@ public abstract class ISLISPLength extends RootNode {
 
     @Specialization
     Object doString(String str) {
-        return str.length();
+        return Utils.codepointCount(str, ISLISPContext.get(this).codepointOffsets(str));
     }
 
     @Specialization
     Object doMutableString(LispMutableString s) {
-        return s.chars().length;
+        return s.length();
     }
 
     @Specialization
     Object doSymbol(Symbol s) {
-        if (s.identityReference() == ISLISPContext.get(this).getNil().identityReference()) {
+        if (s.identityReference() == Symbol.NIL.identityReference()) {
             return 0;
         } else {
             var ctx = ISLISPContext.get(this);
@@ -1,8 +1,8 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Pair;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
@@ -18,7 +18,7 @@ public class ISLISPList extends RootNode {
 
     @Override
     public Object execute(VirtualFrame frame) {
-        Object tail = ISLISPContext.get(this).getNil();
+        Object tail = Symbol.NIL;
         for (int i = frame.getArguments().length - 1; i > 0; i--) {
             tail = new Pair(frame.getArguments()[i], tail);
         }
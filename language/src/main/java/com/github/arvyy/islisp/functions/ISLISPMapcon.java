@@ -5,6 +5,7 @@ import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Pair;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -51,7 +52,7 @@ public abstract class ISLISPMapcon extends RootNode {
         Object[] lists,
         @CachedLibrary(limit = "3") InteropLibrary fn
     ) throws InteropException {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         Object[] args = new Object[lists.length];
         Pair head = null;
         Pair tail = null;
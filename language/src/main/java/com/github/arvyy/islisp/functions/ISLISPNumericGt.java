@@ -5,6 +5,7 @@ import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.nodes.ISLISPTypes;
 import com.github.arvyy.islisp.runtime.LispBigInteger;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -41,26 +42,26 @@ public abstract class ISLISPNumericGt extends RootNode {
     @Specialization
     Object doInts(int a, int b) {
         if (profile.profile(a > b)) {
-            return ISLISPContext.get(this).getT();
+            return Symbol.T;
         }
-        return ISLISPContext.get(this).getNil();
+        return Symbol.NIL;
     }
 
     @Specialization
     Object doDoubles(double a, double b) {
         if (profile.profile(a > b)) {
-            return ISLISPContext.get(this).getT();
+            return Symbol.T;
         }
-        return ISLISPContext.get(this).getNil();
+        return Symbol.NIL;
     }
 
     @Specialization
     @CompilerDirectives.TruffleBoundary
     Object doBigInts(LispBigInteger a, LispBigInteger b) {
         if (profile.profile(a.data().compareTo(b.data()) > 0)) {
-            return ISLISPContext.get(this).getT();
+            return Symbol.T;
         }
-        return ISLISPContext.get(this).getNil();
+        return Symbol.NIL;
     }
 
     @Specialization
@@ -3,6 +3,7 @@ package com.github.arvyy.islisp.functions;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -42,8 +43,8 @@ public abstract class ISLISPProbeFile extends RootNode {
     Object doString(String filename) {
         var file = ISLISPContext.get(this).getEnv().getPublicTruffleFile(filename);
         return file.exists()
-            ? ISLISPContext.get(this).getT()
-            : ISLISPContext.get(this).getNil();
+            ? Symbol.T
+            : Symbol.NIL;
     }
 
     @Specialization(guards = {
@@ -4,12 +4,15 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Symbol;
-import com.github.arvyy.islisp.runtime.ValueReference;
+import com.github.arvyy.islisp.runtime.SymbolReference;
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.object.DynamicObjectLibrary;
 
 /**
  * Implements `property` function, that returns value for a given property for a given symbol.
@@ -34,29 +37,30 @@ public abstract class ISLISPProperty extends RootNode {
         }
         var defaultValue = frame.getArguments().length == 4
             ? frame.getArguments()[3]
-            : ISLISPContext.get(this).getNil();
+            : Symbol.NIL;
         return executeGeneric(frame.getArguments()[1], frame.getArguments()[2], defaultValue);
     }
 
     abstract Object executeGeneric(Object symbol, Object property, Object defaultValue);
 
-    @Specialization(guards = {
-        "symbol.identityReference().getId() == symbolLastId",
-        "property.identityReference().getId() == propertyLastId"
-    })
-    Object doSymbols(
+    @Specialization(guards = "property.identityReference() == cachedProperty", limit = "3")
+    Object doCached(
         Symbol symbol,
         Symbol property,
         Object defaultValue,
-        @Cached("symbol.identityReference().getId()") int symbolLastId,
-        @Cached("property.identityReference().getId()") int propertyLastId,
-        @Cached("getPropertyReference(symbol, property)") ValueReference reference
+        @Cached("property.identityReference()") SymbolReference cachedProperty,
+        @CachedLibrary(limit = "3") DynamicObjectLibrary objectLibrary
     ) {
-        if (reference.getValue() == null) {
-            return defaultValue;
-        } else {
-            return reference.getValue();
-        }
+        var holder = ISLISPContext.get(this).getPropertyHolder(symbol.identityReference());
+        return objectLibrary.getOrDefault(holder, cachedProperty, defaultValue);
+    }
+
+    @Specialization(replaces = "doCached")
+    @CompilerDirectives.TruffleBoundary
+    Object doUncached(Symbol symbol, Symbol property, Object defaultValue) {
+        var holder = ISLISPContext.get(this).getPropertyHolder(symbol.identityReference());
+        return DynamicObjectLibrary.getUncached()
+            .getOrDefault(holder, property.identityReference(), defaultValue);
     }
 
     @Specialization(guards = {
@@ -68,11 +72,6 @@ public abstract class ISLISPProperty extends RootNode {
         return errorSignalerNode.signalWrongType(offender, ctx.lookupClass("<symbol>"));
     }
 
-    ValueReference getPropertyReference(Symbol symbol, Symbol property) {
-        var ctx = ISLISPContext.get(this);
-        return ctx.lookupSymbolProperty(symbol.identityReference(), property.identityReference());
-    }
-
     boolean notSymbol(Object symbol, Object property) {
         return !(symbol instanceof Symbol && property instanceof Symbol);
     }
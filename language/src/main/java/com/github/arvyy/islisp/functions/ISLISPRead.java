@@ -3,9 +3,9 @@ package com.github.arvyy.islisp.functions;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
-import com.github.arvyy.islisp.parser.Reader;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -18,7 +18,7 @@ import java.io.IOException;
 import java.util.Optional;
 
 /**
- * Implements `read-char` procedure.
+ * Implements `read` procedure.
  */
 public abstract class ISLISPRead extends RootNode {
 
@@ -58,7 +58,6 @@ public abstract class ISLISPRead extends RootNode {
                 3
             );
         }
-        var ctx = ISLISPContext.get(this);
         Object stream;
         Object eosErrorp;
         Object eosValue;
@@ -68,12 +67,12 @@ public abstract class ISLISPRead extends RootNode {
             stream = frame.getArguments()[1];
         }
         if (frame.getArguments().length < 3) {
-            eosErrorp = ctx.getT();
+            eosErrorp = Symbol.T;
         } else {
             eosErrorp = frame.getArguments()[2];
         }
         if (frame.getArguments().length < 4) {
-            eosValue = ctx.getNil();
+            eosValue = Symbol.NIL;
         } else {
             eosValue = frame.getArguments()[3];
         }
@@ -87,7 +86,7 @@ public abstract class ISLISPRead extends RootNode {
         Object eosErrorP,
         Object eosValue
     ) {
-        var reader = new Reader(stream);
+        var reader = stream.getReader();
         Optional<Object> maybeDatum = null;
         try {
             maybeDatum = reader.readSingle();
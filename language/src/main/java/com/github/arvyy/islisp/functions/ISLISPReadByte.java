@@ -5,6 +5,7 @@ import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -56,7 +57,6 @@ public abstract class ISLISPReadByte extends RootNode {
                 3
             );
         }
-        var ctx = ISLISPContext.get(this);
         Object stream;
         Object eosErrorp;
         Object eosValue;
@@ -66,12 +66,12 @@ public abstract class ISLISPReadByte extends RootNode {
             stream = frame.getArguments()[1];
         }
         if (frame.getArguments().length < 3) {
-            eosErrorp = ctx.getT();
+            eosErrorp = Symbol.T;
         } else {
             eosErrorp = frame.getArguments()[2];
         }
         if (frame.getArguments().length < 4) {
-            eosValue = ctx.getNil();
+            eosValue = Symbol.NIL;
         } else {
             eosValue = frame.getArguments()[3];
         }
@@ -6,6 +6,7 @@ import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispChar;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -57,7 +58,6 @@ public abstract class ISLISPReadChar extends RootNode {
                 3
             );
         }
-        var ctx = ISLISPContext.get(this);
         Object stream;
         Object eosErrorp;
         Object eosValue;
@@ -67,12 +67,12 @@ public abstract class ISLISPReadChar extends RootNode {
             stream = frame.getArguments()[1];
         }
         if (frame.getArguments().length < 3) {
-            eosErrorp = ctx.getT();
+            eosErrorp = Symbol.T;
         } else {
             eosErrorp = frame.getArguments()[2];
         }
         if (frame.getArguments().length < 4) {
-            eosValue = ctx.getNil();
+            eosValue = Symbol.NIL;
         } else {
             eosValue = frame.getArguments()[3];
         }
@@ -89,7 +89,7 @@ public abstract class ISLISPReadChar extends RootNode {
         try {
             var codepoint = stream.readCodepoint();
             if (codepoint != -1) {
-                return new LispChar(codepoint);
+                return LispChar.valueOf(codepoint);
             }
             if (Utils.isNil(eosErrorP)) {
                 return eosValue;
@@ -0,0 +1,49 @@
+package com.github.arvyy.islisp.functions;
+
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.github.arvyy.islisp.runtime.StandardClassObject;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Field accessor function instantiated for defrecord.
+ */
+public class ISLISPRecordAccessor extends RootNode {
+
+    private final StandardClass clazz;
+    private final StandardClass.Slot field;
+
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
+
+    /**
+     * Create record accessor root node.
+     *
+     * @param language language reference
+     * @param clazz record class
+     * @param field accessed field
+     */
+    public ISLISPRecordAccessor(TruffleLanguage<?> language, StandardClass clazz, StandardClass.Slot field) {
+        super(language);
+        this.clazz = clazz;
+        this.field = field;
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        var args = frame.getArguments();
+        if (args.length != 2) {
+            return errorSignalerNode.signalWrongArgumentCount(args.length - 1, 1, 1);
+        }
+        if (!(args[1] instanceof StandardClassObject obj && obj.clazz() == clazz)) {
+            return errorSignalerNode.signalWrongType(args[1], clazz);
+        }
+        var value = field.read(obj);
+        return value == null ? Symbol.NIL : value;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.github.arvyy.islisp.functions;
+
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Positional constructor function instantiated for defrecord.
+ */
+public class ISLISPRecordConstructor extends RootNode {
+
+    private final StandardClass clazz;
+
+    @CompilerDirectives.CompilationFinal(dimensions = 1)
+    private final StandardClass.Slot[] fields;
+
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
+
+    /**
+     * Create record constructor root node.
+     *
+     * @param language language reference
+     * @param clazz record class
+     * @param fields record fields, in the order of constructor's parameters
+     */
+    public ISLISPRecordConstructor(TruffleLanguage<?> language, StandardClass clazz, StandardClass.Slot[] fields) {
+        super(language);
+        this.clazz = clazz;
+        this.fields = fields;
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
+    }
+
+    @Override
+    @ExplodeLoop
+    public Object execute(VirtualFrame frame) {
+        var args = frame.getArguments();
+        if (args.length - 1 != fields.length) {
+            return errorSignalerNode.signalWrongArgumentCount(args.length - 1, fields.length, fields.length);
+        }
+        var obj = clazz.shape().getFactory().create(clazz);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].write(obj, args[i + 1]);
+        }
+        return obj;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.github.arvyy.islisp.functions;
+
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.github.arvyy.islisp.runtime.StandardClassObject;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Field modifier function instantiated for defrecord. Takes record followed by the new value.
+ */
+public class ISLISPRecordModifier extends RootNode {
+
+    private final StandardClass clazz;
+    private final StandardClass.Slot field;
+
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
+
+    /**
+     * Create record modifier root node.
+     *
+     * @param language language reference
+     * @param clazz record class
+     * @param field modified field
+     */
+    public ISLISPRecordModifier(TruffleLanguage<?> language, StandardClass clazz, StandardClass.Slot field) {
+        super(language);
+        this.clazz = clazz;
+        this.field = field;
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        var args = frame.getArguments();
+        if (args.length != 3) {
+            return errorSignalerNode.signalWrongArgumentCount(args.length - 1, 2, 2);
+        }
+        if (!(args[1] instanceof StandardClassObject obj && obj.clazz() == clazz)) {
+            return errorSignalerNode.signalWrongType(args[1], clazz);
+        }
+        field.write(obj, args[2]);
+        return Symbol.NIL;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.github.arvyy.islisp.functions;
+
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.github.arvyy.islisp.runtime.StandardClassObject;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Type predicate function instantiated for defrecord.
+ */
+public class ISLISPRecordPredicate extends RootNode {
+
+    private final StandardClass clazz;
+
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
+
+    /**
+     * Create record predicate root node.
+     *
+     * @param language language reference
+     * @param clazz record class
+     */
+    public ISLISPRecordPredicate(TruffleLanguage<?> language, StandardClass clazz) {
+        super(language);
+        this.clazz = clazz;
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        var args = frame.getArguments();
+        if (args.length != 2) {
+            return errorSignalerNode.signalWrongArgumentCount(args.length - 1, 1, 1);
+        }
+        // records can't be subclassed, so class identity check is enough
+        return args[1] instanceof StandardClassObject obj && obj.clazz() == clazz
+            ? Symbol.T
+            : Symbol.NIL;
+    }
+
+}
@@ -4,12 +4,15 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Symbol;
-import com.github.arvyy.islisp.runtime.ValueReference;
+import com.github.arvyy.islisp.runtime.SymbolReference;
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.object.DynamicObjectLibrary;
 
 /**
  * Implements `remove-property` function, which removes given property from a given symbol.
@@ -37,22 +40,33 @@ public abstract class ISLISPRemoveProperty extends RootNode {
 
     abstract Object executeGeneric(Object symbol, Object property);
 
-    @Specialization(guards = {
-        "symbol.identityReference().getId() == symbolLastId",
-        "property.identityReference().getId() == propertyLastId"
-    })
-    Object doSymbols(
+    @Specialization(guards = "property.identityReference() == cachedProperty", limit = "3")
+    Object doCached(
         Symbol symbol,
         Symbol property,
-        @Cached("symbol.identityReference().getId()") int symbolLastId,
-        @Cached("property.identityReference().getId()") int propertyLastId,
-        @Cached("getPropertyReference(symbol, property)") ValueReference reference
+        @Cached("property.identityReference()") SymbolReference cachedProperty,
+        @CachedLibrary(limit = "3") DynamicObjectLibrary objectLibrary
     ) {
-        var prev = reference.getValue();
+        return remove(objectLibrary, symbol.identityReference(), cachedProperty);
+    }
+
+    @Specialization(replaces = "doCached")
+    @CompilerDirectives.TruffleBoundary
+    Object doUncached(Symbol symbol, Symbol property) {
+        return remove(DynamicObjectLibrary.getUncached(), symbol.identityReference(), property.identityReference());
+    }
+
+    Object remove(DynamicObjectLibrary objectLibrary, SymbolReference symbol, SymbolReference property) {
+        var ctx = ISLISPContext.get(this);
+        var holder = ctx.getPropertyHolder(symbol);
+        var prev = objectLibrary.getOrDefault(holder, property, null);
         if (prev == null) {
-            prev = ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
+        }
+        objectLibrary.removeKey(holder, property);
+        if (objectLibrary.getShape(holder).getPropertyCount() == 0) {
+            ctx.releaseSymbolWithProperties(symbol);
         }
-        reference.setValue(null);
         return prev;
     }
 
@@ -65,11 +79,6 @@ public abstract class ISLISPRemoveProperty extends RootNode {
         return errorSignalerNode.signalWrongType(offender, ctx.lookupClass("<symbol>"));
     }
 
-    ValueReference getPropertyReference(Symbol symbol, Symbol property) {
-        var ctx = ISLISPContext.get(this);
-        return ctx.lookupSymbolProperty(symbol.identityReference(), property.identityReference());
-    }
-
     boolean notSymbol(Object symbol, Object property) {
         return !(symbol instanceof Symbol && property instanceof Symbol);
     }
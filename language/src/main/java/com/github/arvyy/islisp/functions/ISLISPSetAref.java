@@ -103,7 +103,10 @@ public abstract class ISLISPSetAref extends RootNode {
             return signalWrongDimension(str, 1, lookup.length);
         }
         var index = lookup[0];
-        str.chars()[index] = c;
+        if (index < 0 || index >= str.length()) {
+            return errorSignalerNode.signalIndexOutOfRange(index, str.length());
+        }
+        str.setCodepointAt(index, c.codepoint());
         return c;
     }
 
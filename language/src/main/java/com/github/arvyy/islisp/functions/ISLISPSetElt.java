@@ -100,10 +100,10 @@ public abstract class ISLISPSetElt extends RootNode {
 
     @Specialization
     Object doMutableString(LispChar c, LispMutableString str, int index) {
-        if (index < 0 || index >= str.chars().length) {
-            return errorSignalerNode.signalIndexOutOfRange(index, str.chars().length);
+        if (index < 0 || index >= str.length()) {
+            return errorSignalerNode.signalIndexOutOfRange(index, str.length());
         }
-        str.chars()[index] = c;
+        str.setCodepointAt(index, c.codepoint());
         return c;
     }
 
@@ -4,12 +4,15 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Symbol;
-import com.github.arvyy.islisp.runtime.ValueReference;
+import com.github.arvyy.islisp.runtime.SymbolReference;
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.object.DynamicObjectLibrary;
 
 /**
  * Implements `set-property` function.
@@ -37,19 +40,31 @@ public abstract class ISLISPSetProperty extends RootNode {
 
     abstract Object executeGeneric(Object value, Object symbol, Object property);
 
-    @Specialization(guards = {
-        "symbol.identityReference().getId() == symbolLastId",
-        "property.identityReference().getId() == propertyLastId"
-    })
-    Object doSymbols(
+    @Specialization(guards = "property.identityReference() == cachedProperty", limit = "3")
+    Object doCached(
         Object value,
         Symbol symbol,
         Symbol property,
-        @Cached("symbol.identityReference().getId()") int symbolLastId,
-        @Cached("property.identityReference().getId()") int propertyLastId,
-        @Cached("getPropertyReference(symbol, property)") ValueReference reference
+        @Cached("property.identityReference()") SymbolReference cachedProperty,
+        @CachedLibrary(limit = "3") DynamicObjectLibrary objectLibrary
     ) {
-        reference.setValue(value);
+        var ctx = ISLISPContext.get(this);
+        var reference = symbol.identityReference();
+        var holder = ctx.getPropertyHolder(reference);
+        if (!objectLibrary.containsKey(holder, cachedProperty)) {
+            ctx.retainSymbolWithProperties(reference);
+        }
+        objectLibrary.put(holder, cachedProperty, value);
+        return value;
+    }
+
+    @Specialization(replaces = "doCached")
+    @CompilerDirectives.TruffleBoundary
+    Object doUncached(Object value, Symbol symbol, Symbol property) {
+        var ctx = ISLISPContext.get(this);
+        var reference = symbol.identityReference();
+        ctx.retainSymbolWithProperties(reference);
+        DynamicObjectLibrary.getUncached().put(ctx.getPropertyHolder(reference), property.identityReference(), value);
         return value;
     }
 
@@ -62,11 +77,6 @@ public abstract class ISLISPSetProperty extends RootNode {
         return errorSignalerNode.signalWrongType(offender, ctx.lookupClass("<symbol>"));
     }
 
-    ValueReference getPropertyReference(Symbol symbol, Symbol property) {
-        var ctx = ISLISPContext.get(this);
-        return ctx.lookupSymbolProperty(symbol.identityReference(), property.identityReference());
-    }
-
     boolean notSymbol(Object symbol, Object property) {
         return !(symbol instanceof Symbol && property instanceof Symbol);
     }
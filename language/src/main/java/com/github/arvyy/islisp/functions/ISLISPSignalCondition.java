@@ -8,6 +8,7 @@ import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.nodes.ISLISPFunctionDispatchNode;
 import com.github.arvyy.islisp.nodes.ISLISPFunctionDispatchNodeGen;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -75,12 +76,12 @@ public class ISLISPSignalCondition extends RootNode {
         // TODO validate condition is actually condition
         var conditionValue = frame.getArguments()[1];
         var shouldFill = fillStacktrace.call(null, conditionValue);
-        if (shouldFill != ctx.getNil()) {
+        if (shouldFill != Symbol.NIL) {
             setStacktrace.call(null, ISLISPCurrentStacktrace.currentStacktrace(), conditionValue);
         }
         var continuable = frame.getArguments()[2];
         setContinuable.call(null, continuable, conditionValue);
-        if (continuable != ctx.getNil()) {
+        if (continuable != Symbol.NIL) {
             var handler = ctx.popHandler();
             // it's possible no handler is active, in which case treat it same as non-continuable.
             // (eg., in a case when islisp function was returned from eval, and then called
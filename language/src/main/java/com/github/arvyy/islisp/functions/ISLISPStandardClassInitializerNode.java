@@ -0,0 +1,153 @@
+package com.github.arvyy.islisp.functions;
+
+import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.github.arvyy.islisp.runtime.StandardClassObject;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.nodes.DirectCallNode;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.Node;
+
+import java.util.ArrayList;
+
+/**
+ * Initializes slots of instances of a specific standard class. Assigns supplied initarg values,
+ * and afterwards evaluates initforms of slots that are still unbound.
+ * Initarg to slot mapping and initform functions are resolved once upon creation.
+ */
+public final class ISLISPStandardClassInitializerNode extends Node {
+
+    private final StandardClass clazz;
+
+    @CompilerDirectives.CompilationFinal(dimensions = 1)
+    private final StandardClass.Slot[] initArgSlots;
+
+    @CompilerDirectives.CompilationFinal(dimensions = 1)
+    private final int[] initArgIds;
+
+    @CompilerDirectives.CompilationFinal(dimensions = 1)
+    private final StandardClass.Slot[] initFormSlots;
+
+    @Children
+    private final DirectCallNode[] initFormCalls;
+
+    @Child
+    private ISLISPErrorSignalerNode errorSignalerNode;
+
+    /**
+     * Create initializer node.
+     *
+     * @param clazz class whose instances are initialized
+     */
+    public ISLISPStandardClassInitializerNode(StandardClass clazz) {
+        this.clazz = clazz;
+        var argSlots = new ArrayList<StandardClass.Slot>();
+        var argIds = new ArrayList<Integer>();
+        var formSlots = new ArrayList<StandardClass.Slot>();
+        var formCalls = new ArrayList<DirectCallNode>();
+        for (var slot: clazz.slots()) {
+            if (slot.initArg() != null) {
+                argSlots.add(slot);
+                argIds.add(slot.initArg().getId());
+            }
+            if (slot.initForm() != null) {
+                formSlots.add(slot);
+                formCalls.add(DirectCallNode.create(slot.initForm().callTarget()));
+            }
+        }
+        initArgSlots = argSlots.toArray(StandardClass.Slot[]::new);
+        initArgIds = argIds.stream().mapToInt(i -> i).toArray();
+        initFormSlots = formSlots.toArray(StandardClass.Slot[]::new);
+        initFormCalls = formCalls.toArray(DirectCallNode[]::new);
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
+    }
+
+    /**
+     * @return class whose instances are initialized by this node
+     */
+    public StandardClass getStandardClass() {
+        return clazz;
+    }
+
+    /**
+     * Initialize object's slots.
+     *
+     * @param obj object to initialize
+     * @param arguments array containing initarg names and values as alternating pairs
+     * @param start index in arguments of the first initarg name
+     */
+    public void initialize(StandardClassObject obj, Object[] arguments, int start) {
+        for (int i = start; i < arguments.length; i += 2) {
+            var initArg = (Symbol) arguments[i];
+            setInitArg(obj, initArg.identityReference().getId(), arguments[i + 1]);
+        }
+        evaluateInitForms(obj);
+    }
+
+    @ExplodeLoop
+    private void setInitArg(StandardClassObject obj, int initArgId, Object value) {
+        for (int j = 0; j < initArgIds.length; j++) {
+            if (initArgIds[j] == initArgId && !initArgSlots[j].isBound(obj)) {
+                write(initArgSlots[j], obj, value, errorSignalerNode);
+            }
+        }
+    }
+
+    @ExplodeLoop
+    private void evaluateInitForms(StandardClassObject obj) {
+        for (int j = 0; j < initFormCalls.length; j++) {
+            if (!initFormSlots[j].isBound(obj)) {
+                write(initFormSlots[j], obj, initFormCalls[j].call((Object) null), errorSignalerNode);
+            }
+        }
+    }
+
+    /**
+     * Initialize object's slots without a specialized node, looking up slots and initforms on each call.
+     *
+     * @param obj object to initialize
+     * @param arguments array containing initarg names and values as alternating pairs
+     * @param start index in arguments of the first initarg name
+     * @param errorSignalerNode node used for signaling values not matching slot types
+     */
+    @CompilerDirectives.TruffleBoundary
+    public static void initializeUncached(
+        StandardClassObject obj,
+        Object[] arguments,
+        int start,
+        ISLISPErrorSignalerNode errorSignalerNode
+    ) {
+        var clazz = obj.clazz();
+        for (int i = start; i < arguments.length; i += 2) {
+            var initArg = (Symbol) arguments[i];
+            for (var slot: clazz.slots()) {
+                if (slot.initArg() != null
+                    && slot.initArg().getId() == initArg.identityReference().getId()
+                    && !slot.isBound(obj)
+                ) {
+                    write(slot, obj, arguments[i + 1], errorSignalerNode);
+                }
+            }
+        }
+        for (var slot: clazz.slots()) {
+            if (slot.initForm() != null && !slot.isBound(obj)) {
+                write(slot, obj, slot.initForm().callTarget().call((Object) null), errorSignalerNode);
+            }
+        }
+    }
+
+    static void write(
+        StandardClass.Slot slot,
+        StandardClassObject obj,
+        Object value,
+        ISLISPErrorSignalerNode errorSignalerNode
+    ) {
+        if (!slot.write(obj, value)) {
+            var expectedClass = ISLISPContext.get(errorSignalerNode).lookupClass(slot.type().className());
+            errorSignalerNode.signalWrongType(value, expectedClass);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.github.arvyy.islisp.functions;
+
+import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
+import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.LispMutableString;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Implements `string-append` function.
+ * Result is always a new mutable string (LispMutableString), regardless of whether the arguments
+ * are literal or mutable strings, and even for a single argument; it's assembled by bulk copying
+ * argument's contents.
+ */
+public class ISLISPStringAppend extends RootNode {
+
+    @Child
+    ISLISPErrorSignalerNode errorSignalerNode;
+
+    ISLISPStringAppend(TruffleLanguage<?> language) {
+        super(language);
+        errorSignalerNode = new ISLISPErrorSignalerNode(this);
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        var args = frame.getArguments();
+        for (int i = 1; i < args.length; i++) {
+            if (!(args[i] instanceof String || args[i] instanceof LispMutableString)) {
+                var ctx = ISLISPContext.get(this);
+                return errorSignalerNode.signalWrongType(args[i], ctx.lookupClass("<string>"));
+            }
+        }
+        return LispMutableString.concat(args, 1);
+    }
+
+    /**
+     * Construct LispFunction using this root node.
+     *
+     * @param lang truffle language reference
+     * @return lisp function
+     */
+    public static LispFunction makeLispFunction(TruffleLanguage<?> lang) {
+        return new LispFunction(new ISLISPStringAppend(lang).getCallTarget());
+    }
+
+}
@@ -1,9 +1,8 @@
 package com.github.arvyy.islisp.functions;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.LispClass;
 import com.github.arvyy.islisp.runtime.LispFunction;
-import com.oracle.truffle.api.CompilerDirectives;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -48,27 +47,8 @@ public abstract class ISLISPSubclassp extends RootNode {
         return isSubclass(clazz1, clazz2);
     }
 
-    @CompilerDirectives.TruffleBoundary
     Object isSubclass(LispClass clazz1, LispClass clazz2) {
-        var t = ISLISPContext.get(this).getT();
-        var nil = ISLISPContext.get(this).getNil();
-        if (isSubclassHelper(clazz1, clazz2)) {
-            return t;
-        } else {
-            return nil;
-        }
-    }
-
-    boolean isSubclassHelper(LispClass clazz1, LispClass clazz2) {
-        if (clazz1 == clazz2) {
-            return true;
-        }
-        for (var parent: clazz1.getParents()) {
-            if (isSubclassHelper(parent, clazz2)) {
-                return true;
-            }
-        }
-        return false;
+        return clazz1.isSubclassOf(clazz2) ? Symbol.T : Symbol.NIL;
     }
 
     /**
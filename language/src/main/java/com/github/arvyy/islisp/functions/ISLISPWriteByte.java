@@ -5,6 +5,7 @@ import com.github.arvyy.islisp.nodes.ISLISPErrorSignalerNode;
 import com.github.arvyy.islisp.runtime.LispBigInteger;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.LispStream;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -70,7 +71,7 @@ public abstract class ISLISPWriteByte extends RootNode {
     Object writeBoundary(int b, LispStream stream) {
         try {
             stream.writeByte(b);
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         } catch (IOException e) {
             return errorSignalerNode.signalIOError(e);
         }
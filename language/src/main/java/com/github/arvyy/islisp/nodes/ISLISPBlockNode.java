@@ -1,7 +1,7 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.exceptions.ISLISPReturnFromException;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -34,7 +34,7 @@ public class ISLISPBlockNode extends ISLISPExpressionNode {
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
         if (expressionNodes.length == 0) {
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         }
         try {
             for (int i = 0; i < expressionNodes.length - 1; i++) {
@@ -1,7 +1,7 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.Utils;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.interop.InteropException;
 import com.oracle.truffle.api.interop.InteropLibrary;
@@ -72,7 +72,7 @@ public class ISLISPCaseNode extends ISLISPExpressionNode {
     @Override
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         var value = keyForm.executeGeneric(frame);
         var fn = comparisonFnExpression.executeGeneric(frame);
         var interop = InteropLibrary.getUncached(fn);
@@ -2,6 +2,7 @@ package com.github.arvyy.islisp.nodes;
 
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.exceptions.ISLISPThrowException;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.DirectCallNode;
@@ -48,14 +49,14 @@ public class ISLISPCatchNode extends ISLISPExpressionNode {
         var tagObject = tagForm.executeGeneric(frame);
         try {
             if (body.length == 0) {
-                return ISLISPContext.get(this).getNil();
+                return Symbol.NIL;
             }
             for (int i = 0; i < body.length - 1; i++) {
                 body[i].executeGeneric(frame);
             }
             return body[body.length - 1].executeGeneric(frame);
         } catch (ISLISPThrowException e) {
-            if (eq.call(null, tagObject, e.getCatchTag()) != ctx.getNil()) {
+            if (eq.call(null, tagObject, e.getCatchTag()) != Symbol.NIL) {
                 return e.getResult();
             } else {
                 throw e;
@@ -1,7 +1,7 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.Utils;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -42,7 +42,7 @@ public class ISLISPCondNode extends ISLISPExpressionNode {
     @Override
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         for (int i = 0; i < offsets.length; i++) {
             var start = offsets[i];
             var end = i == offsets.length - 1
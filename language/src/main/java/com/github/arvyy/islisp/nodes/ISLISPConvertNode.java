@@ -3,6 +3,7 @@ package com.github.arvyy.islisp.nodes;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.runtime.LispChar;
+import com.github.arvyy.islisp.runtime.LispMutableString;
 import com.github.arvyy.islisp.runtime.LispVector;
 import com.github.arvyy.islisp.runtime.Pair;
 import com.github.arvyy.islisp.runtime.Symbol;
@@ -117,6 +118,12 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
             return Double.valueOf(value);
         }
 
+        @Specialization
+        @CompilerDirectives.TruffleBoundary
+        Object convertMutableString(LispMutableString value) {
+            return Double.valueOf(value.toString());
+        }
+
         @Fallback
         Object fallback(Object value) {
             return errorSignalerNode.signalUnknownConversion(
@@ -142,16 +149,28 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
 
         @Specialization
         Object convertString(String s) {
-            Object tail = ISLISPContext.get(this).getNil();
+            Object tail = Symbol.NIL;
+            int offset = s.length();
+            while (offset > 0) {
+                var c = s.codePointBefore(offset);
+                tail = new Pair(LispChar.valueOf(c), tail);
+                offset -= Character.charCount(c);
+            }
+            return tail;
+        }
+
+        @Specialization
+        Object convertMutableString(LispMutableString s) {
+            Object tail = Symbol.NIL;
             for (int i = s.length() - 1; i >= 0; i--) {
-                tail = new Pair(new LispChar(s.codePointAt(i)), tail);
+                tail = new Pair(LispChar.valueOf(s.codepointAt(i)), tail);
             }
             return tail;
         }
 
         @Specialization
         Object convertVector(LispVector v) {
-            Object tail = ISLISPContext.get(this).getNil();
+            Object tail = Symbol.NIL;
             for (int i = v.values().length - 1; i >= 0; i--) {
                 tail = new Pair(v.values()[i], tail);
             }
@@ -175,7 +194,7 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
 
         @Specialization
         Object convertInt(int i) {
-            return new LispChar(i);
+            return LispChar.valueOf(i);
         }
 
         @Fallback
@@ -205,6 +224,11 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
             return ISLISPContext.get(this).namedSymbol(s);
         }
 
+        @Specialization
+        Object convertMutableString(LispMutableString s) {
+            return ISLISPContext.get(this).namedSymbol(s.toString());
+        }
+
         @Fallback
         Object fallback(Object value) {
             return errorSignalerNode.signalUnknownConversion(
@@ -245,9 +269,21 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
 
         @Specialization
         Object convertString(String s) {
+            Object[] data = new Object[Utils.codepointCount(s)];
+            int offset = 0;
+            for (int i = 0; i < data.length; i++) {
+                var c = s.codePointAt(offset);
+                data[i] = LispChar.valueOf(c);
+                offset += Character.charCount(c);
+            }
+            return new LispVector(data);
+        }
+
+        @Specialization
+        Object convertMutableString(LispMutableString s) {
             Object[] data = new Object[s.length()];
             for (int i = 0; i < data.length; i++) {
-                data[i] = new LispChar(s.codePointAt(i));
+                data[i] = LispChar.valueOf(s.codepointAt(i));
             }
             return new LispVector(data);
         }
@@ -268,6 +304,11 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
             return s;
         }
 
+        @Specialization
+        Object convertMutableString(LispMutableString s) {
+            return s;
+        }
+
         @Specialization
         @CompilerDirectives.TruffleBoundary
         Object convertFloat(double d) {
@@ -312,6 +353,12 @@ public class ISLISPConvertNode extends ISLISPExpressionNode {
             return Integer.parseInt(s);
         }
 
+        @Specialization
+        @CompilerDirectives.TruffleBoundary
+        Object convertMutableString(LispMutableString s) {
+            return Integer.parseInt(s.toString());
+        }
+
         @Fallback
         Object fallback(Object value) {
             return errorSignalerNode.signalUnknownConversion(
@@ -1,6 +1,6 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.debug.DebuggerTags;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.instrumentation.Tag;
@@ -21,7 +21,7 @@ public class ISLISPDebuggerNode extends ISLISPExpressionNode {
 
     @Override
     public Object executeGeneric(VirtualFrame frame) {
-        return ISLISPContext.get(this).getNil();
+        return Symbol.NIL;
     }
 
     @Override
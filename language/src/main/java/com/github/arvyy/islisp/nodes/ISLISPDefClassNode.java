@@ -147,6 +147,7 @@ public class ISLISPDefClassNode extends ISLISPExpressionNode {
         var shapeBuilder = StaticShape.newBuilder(ctx.getLanguage());
         var superclasses = new ArrayList<LispClass>();
         // collect inherited slots from parent classes
+        var inheritedSlots = new HashMap<SymbolReference, StandardClass.Slot>();
         for (var superclass: superclassName) {
             var clazz = ctx.lookupClass(module, superclass.identityReference());
             if (clazz == null) {
@@ -155,30 +156,22 @@ public class ISLISPDefClassNode extends ISLISPExpressionNode {
             superclasses.add(clazz);
             if (clazz instanceof StandardClass standardClass) {
                 for (var parentSlot: standardClass.slots()) {
-                    if (!myslots.containsKey(parentSlot.name())) {
-                        var property = new DefaultStaticProperty(parentSlot.name().getId() + "");
-                        shapeBuilder.property(property, Object.class, false);
-                        var slot = new StandardClass.Slot(
-                                parentSlot.name(),
-                                property,
-                                parentSlot.initForm(),
-                                parentSlot.initArg());
-                        myslots.put(parentSlot.name(), slot);
-                    }
+                    inheritedSlots.putIfAbsent(parentSlot.name(), parentSlot);
                 }
             }
         }
-        // add own unique properties
+        // own slot definitions override inherited slot options
         for (var slot: slots) {
-            var slotInParent = myslots.get(slot.getName().identityReference());
-            StaticProperty property;
+            var slotInParent = inheritedSlots.remove(slot.getName().identityReference());
+            StandardClass.SlotType type;
             SymbolReference initArg;
             LispFunction initForm;
-            if (slotInParent == null) {
-                property = new DefaultStaticProperty(slot.getName().identityReference().getId() + "");
-                shapeBuilder.property(property, Object.class, false);
+            if (slot.getType() != null) {
+                type = slot.getType();
+            } else if (slotInParent != null) {
+                type = slotInParent.type();
             } else {
-                property = slotInParent.property();
+                type = StandardClass.SlotType.OBJECT;
             }
             if (slot.getInitArg() != null) {
                 initArg = slot.getInitArg().identityReference();
@@ -194,19 +187,52 @@ public class ISLISPDefClassNode extends ISLISPExpressionNode {
             } else {
                 initForm = null;
             }
-            var newSlot = new StandardClass.Slot(slot.getName().identityReference(), property, initForm, initArg);
-            myslots.put(slot.getName().identityReference(), newSlot);
+            var slotName = slot.getName().identityReference();
+            myslots.put(slotName, createSlot(shapeBuilder, slotName, type, initForm, initArg));
+        }
+        for (var parentSlot: inheritedSlots.values()) {
+            myslots.put(parentSlot.name(), createSlot(
+                shapeBuilder,
+                parentSlot.name(),
+                parentSlot.type(),
+                parentSlot.initForm(),
+                parentSlot.initArg()));
         }
+        var classId = ctx.nextClassId();
         var newClass = new StandardClass(
+                classId,
                 name.name(),
                 superclasses.toArray(LispClass[]::new),
-                shapeBuilder.build(),
+                new SuperclassSet(classId, superclasses),
+                shapeBuilder.build(StandardClassObject.class, StandardClassObject.Factory.class),
                 myslots.values().toArray(StandardClass.Slot[]::new),
                 isAbstract
         );
         ctx.registerClass(module, name.identityReference(), newClass);
     }
 
+    StandardClass.Slot createSlot(
+        StaticShape.Builder shapeBuilder,
+        SymbolReference slotName,
+        StandardClass.SlotType type,
+        LispFunction initForm,
+        SymbolReference initArg
+    ) {
+        var property = new DefaultStaticProperty(slotName.getId() + "");
+        shapeBuilder.property(property, type.storageType(), false);
+        StaticProperty boundProperty = null;
+        if (type != StandardClass.SlotType.OBJECT) {
+            boundProperty = new DefaultStaticProperty(slotName.getId() + "-bound");
+            shapeBuilder.property(boundProperty, boolean.class, false);
+        }
+        StaticProperty boxedProperty = null;
+        if (type == StandardClass.SlotType.INTEGER) {
+            boxedProperty = new DefaultStaticProperty(slotName.getId() + "-boxed");
+            shapeBuilder.property(boxedProperty, Object.class, false);
+        }
+        return new StandardClass.Slot(slotName, type, property, boundProperty, boxedProperty, initForm, initArg);
+    }
+
     @Override
     public boolean isDefinitionNode() {
         return true;
@@ -223,6 +249,7 @@ public class ISLISPDefClassNode extends ISLISPExpressionNode {
         private Symbol[] boundpName;
         private ISLISPRootNode initializer;
         private Symbol initArg;
+        private StandardClass.SlotType type;
 
         Symbol getName() {
             return name;
@@ -314,6 +341,19 @@ public class ISLISPDefClassNode extends ISLISPExpressionNode {
         public void setInitArg(Symbol initArg) {
             this.initArg = initArg;
         }
+
+        StandardClass.SlotType getType() {
+            return type;
+        }
+
+        /**
+         * Set declared slot type; null if slot's type wasn't declared.
+         *
+         * @param type
+         */
+        public void setType(StandardClass.SlotType type) {
+            this.type = type;
+        }
     }
 
 }
@@ -4,13 +4,23 @@ import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.ISLISPTruffleLanguage;
 import com.github.arvyy.islisp.functions.ISLISPClassOf;
 import com.github.arvyy.islisp.functions.ISLISPClassOfNodeGen;
+import com.github.arvyy.islisp.functions.ISLISPClassSlotReader;
+import com.github.arvyy.islisp.functions.ISLISPClassSlotWriter;
+import com.github.arvyy.islisp.runtime.ArraySlice;
+import com.github.arvyy.islisp.runtime.Closure;
 import com.github.arvyy.islisp.runtime.GenericFunctionDescriptor;
 import com.github.arvyy.islisp.runtime.GenericMethodApplicableMethods;
 import com.github.arvyy.islisp.runtime.LispClass;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.github.arvyy.islisp.runtime.StandardClassObject;
 import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Idempotent;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.DirectCallNode;
@@ -23,6 +33,14 @@ import com.oracle.truffle.api.source.SourceSection;
  */
 public abstract class ISLISPDefGenericExecutionNode extends RootNode {
 
+    private static final GenericMethodApplicableMethods NO_NEXT_METHODS = new GenericMethodApplicableMethods(
+        new ArraySlice<>(new CallTarget[0]),
+        new ArraySlice<>(new CallTarget[0]),
+        new ArraySlice<>(new CallTarget[0]),
+        new ArraySlice<>(new CallTarget[0]),
+        Assumption.ALWAYS_VALID
+    );
+
     private final String module;
     private final Symbol name;
     private final boolean setf;
@@ -40,8 +58,6 @@ public abstract class ISLISPDefGenericExecutionNode extends RootNode {
     @Child
     ISLISPErrorSignalerNode errorSignalerNode;
 
-    DirectCallNode classOfCall;
-
     /**
      * Create defgeneric execution node.
      *
@@ -65,7 +81,6 @@ public abstract class ISLISPDefGenericExecutionNode extends RootNode {
         this.sourceSection = sourceSection;
         this.classOf = ISLISPClassOfNodeGen.create(language);
         errorSignalerNode = new ISLISPErrorSignalerNode(this);
-        classOfCall = DirectCallNode.create(classOf.getCallTarget());
         dispatchNode = ISLISPGenericFunctionDispatchNodeGen.create();
     }
 
@@ -76,8 +91,7 @@ public abstract class ISLISPDefGenericExecutionNode extends RootNode {
         name = other.name;
         setf = other.setf;
         sourceSection = other.sourceSection;
-        classOf = other.classOf;
-        classOfCall = other.classOfCall;
+        classOf = ISLISPClassOfNodeGen.create(other.getLanguage(ISLISPTruffleLanguage.class));
         dispatchNode = other.dispatchNode;
     }
 
@@ -98,7 +112,7 @@ public abstract class ISLISPDefGenericExecutionNode extends RootNode {
         var argumentTypes = new LispClass[genericFunctionDescriptor.getRequiredArgCount()];
         for (int i = 1; i <= genericFunctionDescriptor.getRequiredArgCount(); i++) {
             var value = frame.getArguments()[i];
-            argumentTypes[i - 1] = (LispClass) classOfCall.call(null, value);
+            argumentTypes[i - 1] = (LispClass) classOf.executeGeneric(value);
         }
         var arguments = new Object[frame.getArguments().length - 1];
         System.arraycopy(frame.getArguments(), 1, arguments, 0, arguments.length);
@@ -107,6 +121,68 @@ public abstract class ISLISPDefGenericExecutionNode extends RootNode {
 
     abstract Object executeGeneric(LispClass[] classes, Object[] arguments);
 
+    // generic consisting only of a defclass generated reader; read the slot in place
+    @Specialization(
+            guards = {
+                "classesEqual(classes, lastClasses)",
+                "slot != null"
+            },
+            assumptions = "genericFunctionDescriptor.getAssumption()",
+            limit = "3")
+    Object doSlotRead(
+            LispClass[] classes,
+            Object[] arguments,
+            @Cached(value = "classes", dimensions = 0) LispClass[] lastClasses,
+            @Cached("getSlotReaderSlot(classes)") StandardClass.Slot slot
+    ) {
+        var value = slot.read((StandardClassObject) arguments[0]);
+        return value == null ? Symbol.NIL : value;
+    }
+
+    // generic consisting only of a defclass generated writer; write the slot in place
+    @Specialization(
+            guards = {
+                "classesEqual(classes, lastClasses)",
+                "slot != null"
+            },
+            assumptions = "genericFunctionDescriptor.getAssumption()",
+            limit = "3")
+    Object doSlotWrite(
+            LispClass[] classes,
+            Object[] arguments,
+            @Cached(value = "classes", dimensions = 0) LispClass[] lastClasses,
+            @Cached("getSlotWriterSlot(classes)") StandardClass.Slot slot
+    ) {
+        if (!slot.write((StandardClassObject) arguments[1], arguments[0])) {
+            var expectedClass = ISLISPContext.get(this).lookupClass(slot.type().className());
+            return errorSignalerNode.signalWrongType(arguments[0], expectedClass);
+        }
+        return Symbol.NIL;
+    }
+
+    @Specialization(
+            guards = {
+                "classesEqual(classes, lastClasses)",
+                "isSingleMethod(applicableMethods)"
+            },
+            assumptions = "genericFunctionDescriptor.getAssumption()",
+            limit = "3")
+    Object doSingleMethod(
+            LispClass[] classes,
+            Object[] arguments,
+            @Cached(value = "classes", dimensions = 0) LispClass[] lastClasses,
+            @Cached("getApplicableMethods(classes)") GenericMethodApplicableMethods applicableMethods,
+            @Cached("create(applicableMethods.primaryMethods().get(0))") DirectCallNode methodCall,
+            @Cached("usesNextMethod(applicableMethods.primaryMethods().get(0))") boolean passNextMethods
+    ) {
+        var realArgs = new Object[arguments.length + 1];
+        System.arraycopy(arguments, 0, realArgs, 1, arguments.length);
+        if (passNextMethods) {
+            realArgs[0] = new Closure(null, NO_NEXT_METHODS, arguments, null);
+        }
+        return methodCall.call(realArgs);
+    }
+
     @Specialization(
             guards = "classesEqual(classes, lastClasses)",
             assumptions = "genericFunctionDescriptor.getAssumption()")
@@ -131,6 +207,47 @@ public abstract class ISLISPDefGenericExecutionNode extends RootNode {
         return genericFunctionDescriptor.getApplicableMethods(classes);
     }
 
+    StandardClass.Slot getSlotReaderSlot(LispClass[] classes) {
+        var method = getSingleMethod(classes);
+        if (method instanceof RootCallTarget target
+            && target.getRootNode() instanceof ISLISPClassSlotReader reader
+            && classes[0] instanceof StandardClass clazz
+        ) {
+            return reader.lookupSlot(clazz);
+        }
+        return null;
+    }
+
+    StandardClass.Slot getSlotWriterSlot(LispClass[] classes) {
+        var method = getSingleMethod(classes);
+        if (method instanceof RootCallTarget target
+            && target.getRootNode() instanceof ISLISPClassSlotWriter writer
+            && classes.length == 2
+            && classes[1] instanceof StandardClass clazz
+        ) {
+            return writer.lookupSlot(clazz);
+        }
+        return null;
+    }
+
+    CallTarget getSingleMethod(LispClass[] classes) {
+        var applicableMethods = getApplicableMethods(classes);
+        return isSingleMethod(applicableMethods) ? applicableMethods.primaryMethods().get(0) : null;
+    }
+
+    boolean usesNextMethod(CallTarget callTarget) {
+        return ISLISPEffectiveMethodNode.usesNextMethod(callTarget);
+    }
+
+    // sole applicable method without any qualified methods can be called directly
+    @Idempotent
+    boolean isSingleMethod(GenericMethodApplicableMethods applicableMethods) {
+        return applicableMethods.primaryMethods().size() == 1
+            && applicableMethods.aroundMethods().size() == 0
+            && applicableMethods.beforeMethods().size() == 0
+            && applicableMethods.afterMethods().size() == 0;
+    }
+
     boolean classesEqual(LispClass[] classes1, LispClass[] classes2) {
         for (int i = 0; i < classes1.length; i++) {
             if (classes1[i] != classes2[i]) {
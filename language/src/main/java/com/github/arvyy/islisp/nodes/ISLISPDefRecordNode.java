@@ -0,0 +1,139 @@
+package com.github.arvyy.islisp.nodes;
+
+import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.functions.ISLISPRecordAccessor;
+import com.github.arvyy.islisp.functions.ISLISPRecordConstructor;
+import com.github.arvyy.islisp.functions.ISLISPRecordModifier;
+import com.github.arvyy.islisp.functions.ISLISPRecordPredicate;
+import com.github.arvyy.islisp.runtime.LispClass;
+import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.StandardClass;
+import com.github.arvyy.islisp.runtime.StandardClassObject;
+import com.github.arvyy.islisp.runtime.SuperclassSet;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.github.arvyy.islisp.runtime.SymbolReference;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.source.SourceSection;
+import com.oracle.truffle.api.staticobject.DefaultStaticProperty;
+import com.oracle.truffle.api.staticobject.StaticShape;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Implements `defrecord` extension syntax for defining fixed layout data types.
+ * Record is a direct subclass of &lt;object&gt;, whose constructor, predicate and field functions
+ * are plain (non generic) functions accepting only direct instances of the record class.
+ */
+public class ISLISPDefRecordNode extends ISLISPExpressionNode {
+
+    private final String module;
+    private final Symbol name;
+    private final Symbol constructorName;
+    private final Symbol[] constructorFields;
+    private final Symbol predicateName;
+    private final List<FieldDefinition> fields;
+
+    /**
+     * Create defrecord node.
+     *
+     * @param module module name whose source's this node is part of
+     * @param name record class name
+     * @param constructorName constructor function name
+     * @param constructorFields names of fields initialized by constructor, in parameter order
+     * @param predicateName type predicate function name
+     * @param fields field definitions
+     * @param sourceSection corresponding source section to this node
+     */
+    public ISLISPDefRecordNode(
+        String module,
+        Symbol name,
+        Symbol constructorName,
+        Symbol[] constructorFields,
+        Symbol predicateName,
+        List<FieldDefinition> fields,
+        SourceSection sourceSection
+    ) {
+        super(sourceSection);
+        this.module = module;
+        this.name = name;
+        this.constructorName = constructorName;
+        this.constructorFields = constructorFields;
+        this.predicateName = predicateName;
+        this.fields = fields;
+    }
+
+    @Override
+    public Object executeGeneric(VirtualFrame frame) {
+        executeOutsideTruffle();
+        return name;
+    }
+
+    @CompilerDirectives.TruffleBoundary
+    void executeOutsideTruffle() {
+        var ctx = ISLISPContext.get(this);
+        var language = ctx.getLanguage();
+        var shapeBuilder = StaticShape.newBuilder(language);
+        var slots = new HashMap<SymbolReference, StandardClass.Slot>();
+        for (var field: fields) {
+            var property = new DefaultStaticProperty(field.name().identityReference().getId() + "");
+            shapeBuilder.property(property, Object.class, false);
+            slots.put(field.name().identityReference(), new StandardClass.Slot(
+                field.name().identityReference(),
+                StandardClass.SlotType.OBJECT,
+                property,
+                null,
+                null,
+                null,
+                null));
+        }
+        var parent = ctx.lookupClass("<object>");
+        var classId = ctx.nextClassId();
+        var clazz = new StandardClass(
+            classId,
+            name.name(),
+            new LispClass[] {parent},
+            new SuperclassSet(classId, List.of(parent)),
+            shapeBuilder.build(StandardClassObject.class, StandardClassObject.Factory.class),
+            fields.stream().map(f -> slots.get(f.name().identityReference())).toArray(StandardClass.Slot[]::new),
+            false);
+        ctx.registerClass(module, name.identityReference(), clazz);
+        var constructorSlots = new StandardClass.Slot[constructorFields.length];
+        for (int i = 0; i < constructorFields.length; i++) {
+            constructorSlots[i] = slots.get(constructorFields[i].identityReference());
+        }
+        register(constructorName, new ISLISPRecordConstructor(language, clazz, constructorSlots));
+        register(predicateName, new ISLISPRecordPredicate(language, clazz));
+        for (var field: fields) {
+            var slot = slots.get(field.name().identityReference());
+            register(field.accessor(), new ISLISPRecordAccessor(language, clazz, slot));
+            if (field.modifier() != null) {
+                register(field.modifier(), new ISLISPRecordModifier(language, clazz, slot));
+            }
+        }
+    }
+
+    void register(Symbol functionName, RootNode rootNode) {
+        ISLISPContext.get(this).registerFunction(
+            module,
+            functionName.identityReference(),
+            new LispFunction(rootNode.getCallTarget()));
+    }
+
+    @Override
+    public boolean isDefinitionNode() {
+        return true;
+    }
+
+    /**
+     * Specifies information about defined record field.
+     *
+     * @param name field name
+     * @param accessor accessor function name
+     * @param modifier modifier function name, or null if field is read only
+     */
+    public record FieldDefinition(Symbol name, Symbol accessor, Symbol modifier) { }
+
+}
@@ -76,7 +76,7 @@ public class ISLISPDynamicLetNode extends ISLISPExpressionNode {
         }
         try {
             if (body.length == 0) {
-                return ctx.getNil();
+                return Symbol.NIL;
             }
             for (int i = 0; i < body.length - 1; i++) {
                 body[i].executeGeneric(frame);
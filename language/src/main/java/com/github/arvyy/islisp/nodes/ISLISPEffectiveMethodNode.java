@@ -0,0 +1,128 @@
+package com.github.arvyy.islisp.nodes;
+
+import com.github.arvyy.islisp.functions.ISLISPCallNextMethod;
+import com.github.arvyy.islisp.runtime.ArraySlice;
+import com.github.arvyy.islisp.runtime.Closure;
+import com.github.arvyy.islisp.runtime.GenericMethodApplicableMethods;
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.DirectCallNode;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import com.oracle.truffle.api.nodes.RootNode;
+
+import java.util.Arrays;
+
+/**
+ * Effective method of a generic function for a fixed set of applicable methods.
+ * Chains around / before / primary / after methods using direct calls, so that they can be inlined.
+ * Next method information is passed to the invoked method only if it makes use of it.
+ * Takes generic function's arguments, starting from index 1.
+ */
+public class ISLISPEffectiveMethodNode extends RootNode {
+
+    private static final ArraySlice<CallTarget> EMPTY = new ArraySlice<>(new CallTarget[0]);
+
+    // next methods visible to the directly invoked around or primary method
+    private final GenericMethodApplicableMethods nextMethods;
+    private final boolean passNextMethods;
+    private final RootCallTarget nextMethodCall;
+
+    @Child
+    private DirectCallNode mainCall;
+
+    @Children
+    private final DirectCallNode[] beforeCalls;
+
+    @Children
+    private final DirectCallNode[] afterCalls;
+
+    /**
+     * Create effective method node.
+     *
+     * @param language language reference
+     * @param methods applicable methods; must have at least one around or primary method
+     */
+    public ISLISPEffectiveMethodNode(TruffleLanguage<?> language, GenericMethodApplicableMethods methods) {
+        super(language);
+        CallTarget main;
+        if (methods.aroundMethods().size() != 0) {
+            // before, primary and after methods are reached through call-next-method
+            main = methods.aroundMethods().get(0);
+            nextMethods = new GenericMethodApplicableMethods(
+                methods.primaryMethods(),
+                methods.aroundMethods().drop(1),
+                methods.beforeMethods(),
+                methods.afterMethods(),
+                methods.methodsUnchanged());
+            beforeCalls = new DirectCallNode[0];
+            afterCalls = new DirectCallNode[0];
+        } else {
+            main = methods.primaryMethods().get(0);
+            nextMethods = new GenericMethodApplicableMethods(
+                methods.primaryMethods().drop(1),
+                EMPTY,
+                EMPTY,
+                EMPTY,
+                methods.methodsUnchanged());
+            beforeCalls = createCalls(methods.beforeMethods());
+            afterCalls = createCalls(methods.afterMethods());
+        }
+        mainCall = DirectCallNode.create(main);
+        passNextMethods = usesNextMethod(main);
+        // own call-next-method, so that its dispatch cache only sees this chain's next methods
+        nextMethodCall = passNextMethods ? new ISLISPCallNextMethod(language).getCallTarget() : null;
+    }
+
+    static DirectCallNode[] createCalls(ArraySlice<CallTarget> callTargets) {
+        var calls = new DirectCallNode[callTargets.size()];
+        for (int i = 0; i < calls.length; i++) {
+            calls[i] = DirectCallNode.create(callTargets.get(i));
+        }
+        return calls;
+    }
+
+    static boolean usesNextMethod(CallTarget callTarget) {
+        if (callTarget instanceof RootCallTarget rootCallTarget) {
+            var function = NodeUtil.findFirstNodeInstance(
+                rootCallTarget.getRootNode(),
+                ISLISPUserDefinedFunctionNode.class);
+            if (function != null) {
+                return function.usesNextMethod();
+            }
+        }
+        // not a user defined method, can't tell
+        return true;
+    }
+
+    @Override
+    @ExplodeLoop
+    public Object execute(VirtualFrame frame) {
+        var args = frame.getArguments();
+        var realArgs = Arrays.copyOf(args, args.length);
+        realArgs[0] = null;
+        for (var beforeCall: beforeCalls) {
+            beforeCall.call(realArgs);
+        }
+        Object result;
+        if (passNextMethods) {
+            realArgs[0] = new Closure(null, nextMethods, Arrays.copyOfRange(args, 1, args.length), nextMethodCall);
+            result = mainCall.call(realArgs);
+            realArgs[0] = null;
+        } else {
+            result = mainCall.call(realArgs);
+        }
+        for (var afterCall: afterCalls) {
+            afterCall.call(realArgs);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isCloningAllowed() {
+        return true;
+    }
+
+}
@@ -50,7 +50,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("required-min"), min,
             ctx.namedSymbol("required-max"), max
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -106,7 +106,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("object"), obj,
             ctx.namedSymbol("expected-class"), expectedClass
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -123,7 +123,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("name"), name,
             ctx.namedSymbol("namespace"), ctx.namedSymbol("variable")
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -140,7 +140,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("name"), name,
             ctx.namedSymbol("namespace"), ctx.namedSymbol("function")
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -157,7 +157,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("name"), name,
             ctx.namedSymbol("namespace"), ctx.namedSymbol("class")
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     @CompilerDirectives.TruffleBoundary
@@ -202,7 +202,7 @@ public class ISLISPErrorSignalerNode extends Node {
             null,
             ctx.lookupClass("ROOT", ctx.namedSymbol("<end-of-stream>").identityReference())
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -216,7 +216,7 @@ public class ISLISPErrorSignalerNode extends Node {
             null,
             ctx.lookupClass("ROOT", ctx.namedSymbol("<division-by-zero>").identityReference())
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -234,7 +234,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("bounds"), bounds,
             ctx.namedSymbol("actual"), actual
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -248,7 +248,7 @@ public class ISLISPErrorSignalerNode extends Node {
             null,
             ctx.lookupClass("ROOT", ctx.namedSymbol("<no-next-method-error>").identityReference())
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -265,7 +265,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.lookupClass("ROOT", ctx.namedSymbol("<truffle-interop-error>").identityReference()),
             ctx.namedSymbol("message"), interopException.getMessage()
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
 
@@ -283,7 +283,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.lookupClass("ROOT", ctx.namedSymbol("<io-error>").identityReference()),
             ctx.namedSymbol("message"), exception.getMessage()
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -301,7 +301,7 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.namedSymbol("value"), value,
             ctx.namedSymbol("to"), to
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 
     /**
@@ -317,6 +317,6 @@ public class ISLISPErrorSignalerNode extends Node {
             ctx.lookupClass("ROOT", ctx.namedSymbol("<immutable-binding-error>").identityReference()),
             ctx.namedSymbol("binding"), bindingName
         );
-        return getSignalCallNode().call(null, condition, ctx.getNil());
+        return getSignalCallNode().call(null, condition, Symbol.NIL);
     }
 }
@@ -1,6 +1,6 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -59,7 +59,7 @@ public class ISLISPForNode extends ISLISPExpressionNode {
     @Override
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         for (int i = 0; i < variableSlots.length; i++) {
             frame.setObject(variableSlots[i], variableInitializers[i].executeGeneric(frame));
         }
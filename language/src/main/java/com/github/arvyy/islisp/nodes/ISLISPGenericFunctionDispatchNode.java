@@ -1,11 +1,14 @@
 package com.github.arvyy.islisp.nodes;
 
+import com.github.arvyy.islisp.ISLISPTruffleLanguage;
 import com.github.arvyy.islisp.runtime.ArraySlice;
 import com.github.arvyy.islisp.runtime.Closure;
 import com.github.arvyy.islisp.runtime.GenericMethodApplicableMethods;
 import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Idempotent;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.DirectCallNode;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.IndirectCallNode;
 import com.oracle.truffle.api.nodes.Node;
@@ -24,6 +27,30 @@ public abstract class ISLISPGenericFunctionDispatchNode extends Node {
      */
     public abstract Object executeDispatch(GenericMethodApplicableMethods methods, Object[] arguments);
 
+    @Specialization(guards = {
+        "applicableMethods == cachedApplicableMethods",
+        "hasEffectiveMethod(cachedApplicableMethods)"
+    }, assumptions = "cachedApplicableMethods.methodsUnchanged()", limit = "3")
+    Object doEffectiveMethod(
+            GenericMethodApplicableMethods applicableMethods,
+            Object[] args,
+            @Cached("applicableMethods") GenericMethodApplicableMethods cachedApplicableMethods,
+            @Cached("create(createEffectiveMethod(applicableMethods))") DirectCallNode callNode) {
+        var realArgs = new Object[args.length + 1];
+        System.arraycopy(args, 0, realArgs, 1, args.length);
+        return callNode.call(realArgs);
+    }
+
+    @Idempotent
+    boolean hasEffectiveMethod(GenericMethodApplicableMethods applicableMethods) {
+        return applicableMethods.aroundMethods().size() != 0 || applicableMethods.primaryMethods().size() != 0;
+    }
+
+    CallTarget createEffectiveMethod(GenericMethodApplicableMethods applicableMethods) {
+        return new ISLISPEffectiveMethodNode(getRootNode().getLanguage(ISLISPTruffleLanguage.class), applicableMethods)
+            .getCallTarget();
+    }
+
     @ExplodeLoop
     @Specialization
     Object doIndirect(
@@ -37,9 +64,10 @@ public abstract class ISLISPGenericFunctionDispatchNode extends Node {
                     applicableMethods.primaryMethods(),
                     applicableMethods.aroundMethods().drop(1),
                     applicableMethods.beforeMethods(),
-                    applicableMethods.afterMethods()
+                    applicableMethods.afterMethods(),
+                    applicableMethods.methodsUnchanged()
             );
-            realArgs[0] = new Closure(null, newApplicableMethods, args);
+            realArgs[0] = new Closure(null, newApplicableMethods, args, null);
             return callNode.call(applicableMethods.aroundMethods().get(0), realArgs);
         } else {
             for (int i = applicableMethods.beforeMethods().start(); i < applicableMethods.beforeMethods().end(); i++) {
@@ -49,9 +77,10 @@ public abstract class ISLISPGenericFunctionDispatchNode extends Node {
                     applicableMethods.primaryMethods().drop(1),
                     new ArraySlice<>(new CallTarget[0]),
                     new ArraySlice<>(new CallTarget[0]),
-                    new ArraySlice<>(new CallTarget[0])
+                    new ArraySlice<>(new CallTarget[0]),
+                    applicableMethods.methodsUnchanged()
             );
-            realArgs[0] = new Closure(null, newApplicableMethods, args);
+            realArgs[0] = new Closure(null, newApplicableMethods, args, null);
             //TODO handle when primary methods empty?
             var result = callNode.call(applicableMethods.primaryMethods().get(0), realArgs);
             realArgs[0] = null;
@@ -1,6 +1,6 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.api.source.SourceSection;
@@ -45,7 +45,7 @@ public class ISLISPIfNode extends ISLISPExpressionNode {
     @Override
     public Object executeGeneric(VirtualFrame frame) {
         var test = testExpr.executeGeneric(frame);
-        if (conditionProfile.profile(test == ISLISPContext.get(this).getNil())) {
+        if (conditionProfile.profile(test == Symbol.NIL)) {
             return falsyExpr.executeGeneric(frame);
         } else {
             return truthyExpr.executeGeneric(frame);
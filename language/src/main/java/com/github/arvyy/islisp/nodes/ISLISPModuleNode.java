@@ -3,39 +3,95 @@ package com.github.arvyy.islisp.nodes;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.parser.ModuleSource;
 import com.github.arvyy.islisp.parser.Parser;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.DirectCallNode;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+
+import java.util.ArrayList;
 
 /**
  * Helper node for deferring full parsing (which requires running user code) until runtime.
  */
 public class ISLISPModuleNode extends ISLISPExpressionNode {
 
-    private final ModuleSource source;
+    private final String moduleName;
     private final Parser parser;
+    private ModuleSource source;
+    private final boolean reusable;
+
+    @CompilerDirectives.CompilationFinal
+    private int parsedBindingsVersion;
+
+    @Children
+    private DirectCallNode[] parsedCalls;
 
     /**
      * Create macro expansion node.
      * @param parser reference to parser to execute proper parsing on invocation
      * @param moduleSource top level user code
+     * @param reusable whether to keep root nodes that parsed expressions were executed in, and rerun them
+     *                 on later executions instead of expanding the source again. Otherwise, module's forms
+     *                 and source positions are released after execution, and read again from source
+     *                 if executed anew.
      */
-    public ISLISPModuleNode(Parser parser, ModuleSource moduleSource) {
+    public ISLISPModuleNode(Parser parser, ModuleSource moduleSource, boolean reusable) {
         super(moduleSource.sourceSection());
         this.parser = parser;
+        this.moduleName = moduleSource.name();
         this.source = moduleSource;
+        this.reusable = reusable;
     }
 
     @Override
     public Object executeGeneric(VirtualFrame frame) {
+        if (parsedCalls != null && parsedBindingsVersion == ISLISPContext.get(this).getBindingsVersion()) {
+            return callParsed();
+        }
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        parser.ensureRequiresLoaded(source.requires());
+        if (source == null) {
+            source = parser.parseModuleSource(moduleName, getSourceSection().getSource());
+        }
+        var moduleSource = source;
+        parser.ensureRequiresLoaded(moduleSource.requires());
         var ctx = ISLISPContext.get(this);
-        if (ctx.getModule(source.name()) == null) {
-            ctx.createModule(source.name(), source.requires(), source.provides());
+        if (ctx.getModule(moduleSource.name()) == null) {
+            ctx.createModule(moduleSource.name(), moduleSource.requires(), moduleSource.provides());
         }
-        return parser.expandAndExecute(source.name(), source.content(), expr -> {
-            // insert exprs so that they get transitively instrumented
-            insert(expr);
+        if (!reusable) {
+            // don't retain forms past execution
+            source = null;
+            try {
+                return parser.expandAndExecute(moduleSource, (expr, callTarget) -> {
+                    // insert exprs so that they get transitively instrumented
+                    insert(expr);
+                });
+            } finally {
+                moduleSource.positions().release();
+            }
+        }
+        // expressions are already adopted by the root nodes of batches they were executed in; keep those roots
+        var batchTargets = new ArrayList<CallTarget>();
+        var result = parser.expandAndExecute(moduleSource, (expr, callTarget) -> {
+            if (batchTargets.isEmpty() || batchTargets.get(batchTargets.size() - 1) != callTarget) {
+                batchTargets.add(callTarget);
+            }
         });
+        parsedCalls = insert(batchTargets.stream()
+            .map(DirectCallNode::create)
+            .toArray(DirectCallNode[]::new));
+        parsedBindingsVersion = ctx.getBindingsVersion();
+        return result;
+    }
+
+    @ExplodeLoop
+    private Object callParsed() {
+        Object result = Symbol.NIL;
+        for (var call: parsedCalls) {
+            result = call.call();
+        }
+        return result;
     }
 }
@@ -1,6 +1,6 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -35,7 +35,7 @@ public class ISLISPPrognNode extends ISLISPExpressionNode {
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
         if (body.length == 0) {
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         }
         for (int i = 0; i < body.length - 1; i++) {
             body[i].executeGeneric(frame);
@@ -1,7 +1,7 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.exceptions.ISLISPInteractiveExitException;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -45,7 +45,7 @@ public class ISLISPRootNode extends RootNode {
                 return e.getCondition();
             }
         } else {
-            return ISLISPContext.get(this).getNil();
+            return Symbol.NIL;
         }
     }
 
@@ -1,7 +1,7 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.exceptions.ISLISPTagbodyGoException;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.source.SourceSection;
 
@@ -45,7 +45,7 @@ public class ISLISPTagBodyNode extends ISLISPExpressionNode {
         while (true) {
             try {
                 if (pos >= expressions.length) {
-                    return ISLISPContext.get(this).getNil();
+                    return Symbol.NIL;
                 } else {
                     expressions[pos].executeGeneric(frame);
                     pos++;
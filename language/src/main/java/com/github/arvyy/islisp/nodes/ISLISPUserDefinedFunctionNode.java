@@ -1,11 +1,11 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.functions.ISLISPCallNextMethod;
 import com.github.arvyy.islisp.functions.ISLISPHasNextMethod;
 import com.github.arvyy.islisp.runtime.Closure;
 import com.github.arvyy.islisp.runtime.LispFunction;
 import com.github.arvyy.islisp.runtime.Pair;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.instrumentation.GenerateWrapper;
@@ -84,6 +84,14 @@ public class ISLISPUserDefinedFunctionNode extends ISLISPExpressionNode {
         restArgumentsSlot = -1;
     }
 
+    /**
+     * @return if function refers to `call-next-method` or `next-method-p`, and thus
+     * needs next method information passed through its closure argument
+     */
+    public boolean usesNextMethod() {
+        return callNextMethodSlot >= 0 || hasNextMethodSlot >= 0;
+    }
+
     @Override
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
@@ -97,7 +105,10 @@ public class ISLISPUserDefinedFunctionNode extends ISLISPExpressionNode {
         }
         if (callNextMethodSlot >= 0) {
             var closure = (Closure) frame.getArguments()[0];
-            frame.setObject(callNextMethodSlot, new LispFunction(closure, callNextMethod.getCallTarget()));
+            var nextMethodCall = closure.nextMethodCall() != null
+                ? closure.nextMethodCall()
+                : callNextMethod.getCallTarget();
+            frame.setObject(callNextMethodSlot, new LispFunction(closure, nextMethodCall));
         }
         if (hasNextMethodSlot >= 0) {
             var closure = (Closure) frame.getArguments()[0];
@@ -109,7 +120,7 @@ public class ISLISPUserDefinedFunctionNode extends ISLISPExpressionNode {
             frame.setObject(slot, arg);
         }
         if (hasRest) {
-            Object value = ISLISPContext.get(this).getNil();
+            Object value = Symbol.NIL;
             for (int i = frame.getArguments().length - 1; i >= namedArgumentSlots.length + 1; i--) {
                 value = new Pair(frame.getArguments()[i], value);
             }
@@ -1,6 +1,6 @@
 package com.github.arvyy.islisp.nodes;
 
-import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -32,7 +32,7 @@ public class ISLISPWhileNode extends ISLISPExpressionNode {
     @Override
     @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
-        var nil = ISLISPContext.get(this).getNil();
+        var nil = Symbol.NIL;
         while (nil != test.executeGeneric(frame)) {
             for (var e: body) {
                 e.executeGeneric(frame);
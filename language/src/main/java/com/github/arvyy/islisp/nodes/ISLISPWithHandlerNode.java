@@ -3,6 +3,7 @@ package com.github.arvyy.islisp.nodes;
 import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.exceptions.ISLISPNonContinuableCondition;
 import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -53,7 +54,7 @@ public class ISLISPWithHandlerNode extends ISLISPExpressionNode {
             try {
                 try {
                     if (body.length == 0) {
-                        return ctx.getNil();
+                        return Symbol.NIL;
                     } else {
                         for (var i = 0; i < body.length - 1; i++) {
                             body[i].executeGeneric(frame);
@@ -1,6 +1,7 @@
 package com.github.arvyy.islisp.nodes;
 
 import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.runtime.Symbol;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.source.SourceSection;
@@ -44,7 +45,7 @@ public class ISLISPWithStandardInputNode extends ISLISPExpressionNode {
         ref.setValue(newValue);
         try {
             if (body.length == 0) {
-                return ctx.getNil();
+                return Symbol.NIL;
             }
             for (var i = 0; i < body.length - 1; i++) {
                 body[i].executeGeneric(frame);
@@ -0,0 +1,478 @@
+package com.github.arvyy.islisp.parser;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.source.SourceSection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * ISLISP lexer over source text that is already in memory.
+ * Produces the same tokens and positions as {@link Lexer}, but scans the character array
+ * with index arithmetic instead of going through marks and resets of a stream.
+ * Identifier tokens (and thus names) are shared per distinct identifier, and punctuation
+ * and small integer tokens are reused, so that lexing doesn't allocate per token
+ * beyond new literal values.
+ */
+public class CharArrayLexer implements Tokenizer {
+
+    private static final Token PERIOD = new Token.PeriodToken();
+    private static final Token BRACKET_OPEN = new Token.BracketOpenToken();
+    private static final Token BRACKET_CLOSE = new Token.BracketCloseToken();
+    private static final Token VECTOR_BRACKET_OPEN = new Token.VectorBracketOpenToken();
+    private static final Token QUOTE = new Token.QuoteToken();
+    private static final Token QUASIQUOTE = new Token.QuasiquoteToken();
+    private static final Token UNQUOTE = new Token.UnquoteToken();
+    private static final Token UNQUOTE_SPLICE = new Token.UnquoteSpliceToken();
+    private static final Token FUNCTION_REF = new Token.FunctionRefToken();
+
+    private static final int SMALL_INT_TOKENS = 256;
+    private static final Token.ExactNumberToken[] SMALL_INTS = new Token.ExactNumberToken[SMALL_INT_TOKENS];
+    // longest decimal that surely fits a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final int ASCII = 128;
+    private static final boolean[] SYMBOL_STARTER = new boolean[ASCII];
+    private static final boolean[] SYMBOL_CONT = new boolean[ASCII];
+    private static final boolean[] NUMBER_CHAR = new boolean[ASCII];
+
+    private static final String[] SPECIAL_CHAR_NAMES = {"newline", "space"};
+    private static final int[] SPECIAL_CHAR_VALUES = {'\n', ' '};
+
+    private static final int INITIAL_IDENTIFIER_TABLE_SIZE = 64;
+    private static final int HASH_MULTIPLIER = 31;
+
+    static {
+        for (int i = 0; i < SMALL_INT_TOKENS; i++) {
+            SMALL_INTS[i] = new Token.ExactNumberToken(BigInteger.valueOf(i));
+        }
+        for (char c = 0; c < ASCII; c++) {
+            SYMBOL_STARTER[c] = Character.isAlphabetic(c) || "<>/*=?_!$%[]^{}~:&+-".indexOf(c) != -1;
+            SYMBOL_CONT[c] = SYMBOL_STARTER[c] || Character.isDigit(c);
+            NUMBER_CHAR[c] = Character.digit(c, 16) != -1 || c == '.' || c == '+' || c == '-';
+        }
+    }
+
+    private final char[] chars;
+    private final int length;
+    private final Source source;
+
+    private int pos;
+    private int line;
+    private int lineStart;
+
+    private int startLine;
+    private int startColumn;
+    private int endLine;
+    private int endColumn;
+
+    private Token.IdentifierToken[] identifiers;
+    private int[] identifierHashes;
+    private int identifierCount;
+
+    /**
+     * Create lexer over the whole content of the given source.
+     *
+     * @param source source with character content
+     */
+    @CompilerDirectives.TruffleBoundary
+    public CharArrayLexer(Source source) {
+        this(toCharArray(source.getCharacters()), source);
+    }
+
+    private static char[] toCharArray(CharSequence text) {
+        if (text instanceof String str) {
+            return str.toCharArray();
+        }
+        var chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return chars;
+    }
+
+    /**
+     * Create lexer over given characters.
+     *
+     * @param chars text to tokenize
+     * @param source source the text was taken from, used for error locations. Can be null.
+     */
+    public CharArrayLexer(char[] chars, Source source) {
+        this.chars = chars;
+        this.length = chars.length;
+        this.source = source;
+        line = 1;
+        lineStart = 0;
+        identifiers = new Token.IdentifierToken[INITIAL_IDENTIFIER_TABLE_SIZE];
+        identifierHashes = new int[INITIAL_IDENTIFIER_TABLE_SIZE];
+    }
+
+    @Override
+    @CompilerDirectives.TruffleBoundary
+    public Token nextToken() throws IOException {
+        skipWhitespace();
+        if (pos >= length) {
+            return null;
+        }
+        startLine = line;
+        startColumn = pos - lineStart + 1;
+        var c = chars[pos++];
+        switch (c) {
+            case '.':
+                return finish(PERIOD);
+            case '(':
+                return finish(BRACKET_OPEN);
+            case ')':
+                return finish(BRACKET_CLOSE);
+            case '`':
+                return finish(QUASIQUOTE);
+            case '\'':
+                return finish(QUOTE);
+            case ',':
+                if (pos < length && chars[pos] == '@') {
+                    pos++;
+                    return finish(UNQUOTE_SPLICE);
+                }
+                return finish(UNQUOTE);
+            case '#':
+                var dispatched = readDispatchToken();
+                if (dispatched != null) {
+                    return finish(dispatched);
+                }
+                // unknown dispatch character is lexed as a start of a regular token
+                c = chars[pos - 1];
+                break;
+            default:
+        }
+        return finish(readRegularToken(c));
+    }
+
+    @Override
+    public int tokenStartLine() {
+        return startLine;
+    }
+
+    @Override
+    public int tokenStartColumn() {
+        return startColumn;
+    }
+
+    @Override
+    public int tokenEndLine() {
+        return endLine;
+    }
+
+    @Override
+    public int tokenEndColumn() {
+        return endColumn;
+    }
+
+    private Token finish(Token token) {
+        var endIndex = pos - 1;
+        endLine = line;
+        endColumn = endIndex - lineStart + 1;
+        // #\ followed by a line break; line is advanced only after the token ends on it
+        if (chars[endIndex] == '\n' && endIndex >= lineStart) {
+            newline(endIndex);
+        }
+        return token;
+    }
+
+    private Token readDispatchToken() throws IOException {
+        var c = next();
+        if (c == '(') {
+            return VECTOR_BRACKET_OPEN;
+        }
+        if (Character.isDigit(c)) {
+            int dimensions = Character.digit(c, 10);
+            while (pos < length && Character.isDigit(chars[pos])) {
+                dimensions = dimensions * 10 + Character.digit(chars[pos], 10);
+                pos++;
+            }
+            if (Character.toLowerCase(next()) == 'a' && next() == '(') {
+                return new Token.ArrayBracketOpenToken(dimensions);
+            }
+            throw new ParsingException(errorSection(), "Bad array literal.");
+        }
+        switch (c) {
+            case '\\':
+                return readCharLiteral();
+            case 'b', 'B':
+                return readNumberToken(2);
+            case 'o', 'O':
+                return readNumberToken(8);
+            case 'x', 'X':
+                return readNumberToken(16);
+            case '\'':
+                return FUNCTION_REF;
+            default:
+                return null;
+        }
+    }
+
+    private Token readRegularToken(char c) throws IOException {
+        var tokenStart = pos - 1;
+        if ((c == '-' || c == '+') && pos < length && Character.isDigit(chars[pos])) {
+            pos = tokenStart;
+            return readNumberToken(10);
+        }
+        if (c == '"') {
+            return readStringLiteral();
+        }
+        if (Character.isDigit(c)) {
+            pos = tokenStart;
+            return readNumberToken(10);
+        }
+        if (isSymbolStarterChar(c)) {
+            pos = tokenStart;
+            return readIdentifierToken();
+        }
+        throw new ParsingException(errorSection(), "Unrecognized lexeme: " + c);
+    }
+
+    private Token readCharLiteral() throws IOException {
+        for (int i = 0; i < SPECIAL_CHAR_NAMES.length; i++) {
+            var name = SPECIAL_CHAR_NAMES[i];
+            if (matches(pos, name)) {
+                pos += name.length();
+                return new Token.CharToken(SPECIAL_CHAR_VALUES[i]);
+            }
+        }
+        if (pos >= length) {
+            throw new EOFException();
+        }
+        return new Token.CharToken((int) chars[pos++]);
+    }
+
+    private Token readStringLiteral() throws IOException {
+        var contentStart = pos;
+        while (true) {
+            if (pos >= length) {
+                throw new EOFException();
+            }
+            var c = chars[pos];
+            if (c == '"') {
+                var value = new String(chars, contentStart, pos - contentStart);
+                pos++;
+                return new Token.StringToken(value);
+            }
+            if (c == '\\') {
+                break;
+            }
+            if (c == '\n') {
+                newline(pos);
+            }
+            pos++;
+        }
+        var sb = new StringBuilder();
+        sb.append(chars, contentStart, pos - contentStart);
+        while (true) {
+            var c = next();
+            if (c == '"') {
+                return new Token.StringToken(sb.toString());
+            }
+            if (c == '\\') {
+                c = next();
+                if (c == '"' || c == '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                throw new ParsingException(errorSection(), "Unknown string escape: " + c);
+            }
+            sb.append(c);
+        }
+    }
+
+    private Token readIdentifierToken() {
+        var identifierStart = pos;
+        var hash = 0;
+        while (pos < length && isSymbolContChar(chars[pos])) {
+            hash = HASH_MULTIPLIER * hash + chars[pos];
+            pos++;
+        }
+        return internIdentifier(identifierStart, pos - identifierStart, hash);
+    }
+
+    private Token readNumberToken(int radix) {
+        var numberStart = pos;
+        var inexact = false;
+        while (pos < length && chars[pos] < ASCII && NUMBER_CHAR[chars[pos]]) {
+            var c = chars[pos];
+            if (c == '.' || c == 'e' || c == 'E') {
+                inexact = true;
+            }
+            pos++;
+        }
+        var len = pos - numberStart;
+        if (radix == 10 && inexact) {
+            return new Token.InexactNumberToken(Double.parseDouble(new String(chars, numberStart, len)));
+        }
+        if (radix == 10) {
+            var token = readSmallDecimal(numberStart, len);
+            if (token != null) {
+                return token;
+            }
+        }
+        return new Token.ExactNumberToken(new BigInteger(new String(chars, numberStart, len), radix));
+    }
+
+    private Token readSmallDecimal(int numberStart, int len) {
+        var i = numberStart;
+        var negative = false;
+        if (len > 1 && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        var end = numberStart + len;
+        if (end - i > MAX_LONG_DIGITS) {
+            return null;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            var c = chars[i];
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (!negative && value < SMALL_INT_TOKENS) {
+            return SMALL_INTS[(int) value];
+        }
+        return new Token.ExactNumberToken(BigInteger.valueOf(negative ? -value : value));
+    }
+
+    private Token.IdentifierToken internIdentifier(int identifierStart, int len, int hash) {
+        var mask = identifiers.length - 1;
+        var i = hash & mask;
+        while (identifiers[i] != null) {
+            if (identifierHashes[i] == hash && matches(identifierStart, len, identifiers[i].identifier())) {
+                return identifiers[i];
+            }
+            i = (i + 1) & mask;
+        }
+        var token = new Token.IdentifierToken(new String(chars, identifierStart, len));
+        identifiers[i] = token;
+        identifierHashes[i] = hash;
+        identifierCount++;
+        if (identifierCount * 2 > identifiers.length) {
+            growIdentifierTable();
+        }
+        return token;
+    }
+
+    private void growIdentifierTable() {
+        var oldIdentifiers = identifiers;
+        var oldHashes = identifierHashes;
+        identifiers = new Token.IdentifierToken[oldIdentifiers.length * 2];
+        identifierHashes = new int[oldIdentifiers.length * 2];
+        var mask = identifiers.length - 1;
+        for (int j = 0; j < oldIdentifiers.length; j++) {
+            if (oldIdentifiers[j] != null) {
+                var i = oldHashes[j] & mask;
+                while (identifiers[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                identifiers[i] = oldIdentifiers[j];
+                identifierHashes[i] = oldHashes[j];
+            }
+        }
+    }
+
+    private boolean matches(int from, int len, String name) {
+        if (name.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (name.charAt(i) != chars[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(int from, String name) {
+        return from + name.length() <= length && matches(from, name.length(), name);
+    }
+
+    private static boolean isSymbolStarterChar(char c) {
+        if (c < ASCII) {
+            return SYMBOL_STARTER[c];
+        }
+        return Character.isAlphabetic(c);
+    }
+
+    private static boolean isSymbolContChar(char c) {
+        if (c < ASCII) {
+            return SYMBOL_CONT[c];
+        }
+        return Character.isAlphabetic(c) || Character.isDigit(c);
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (pos < length) {
+            var c = chars[pos];
+            if (c == ' ' || c == '\r') {
+                pos++;
+            } else if (c == '\n') {
+                newline(pos);
+                pos++;
+            } else if (c == ';') {
+                while (pos < length && chars[pos] != '\n') {
+                    pos++;
+                }
+            } else if (c == '#' && pos + 1 < length && chars[pos + 1] == '|') {
+                pos += 2;
+                skipUntilBlockCommentEnd();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void skipUntilBlockCommentEnd() throws IOException {
+        int level = 1;
+        while (true) {
+            var c = next();
+            if (c == '#') {
+                if (next() == '|') {
+                    level++;
+                }
+            }
+            if (c == '|') {
+                if (next() == '#') {
+                    level--;
+                    if (level == 0) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private char next() throws EOFException {
+        if (pos >= length) {
+            throw new EOFException();
+        }
+        var c = chars[pos];
+        if (c == '\n') {
+            newline(pos);
+        }
+        pos++;
+        return c;
+    }
+
+    private void newline(int index) {
+        line++;
+        lineStart = index + 1;
+    }
+
+    private SourceSection errorSection() {
+        if (source == null) {
+            return null;
+        }
+        return source.createSection(line, Math.max(1, pos - lineStart), 1);
+    }
+
+}
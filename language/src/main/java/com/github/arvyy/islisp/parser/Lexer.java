@@ -11,7 +11,7 @@ import java.util.regex.Pattern;
 /**
  * ISLISP lexer.
  */
-public class Lexer {
+public class Lexer implements Tokenizer {
 
     private final LexerSource source;
     private int col;
@@ -20,6 +20,7 @@ public class Lexer {
     private int markedLine;
     private boolean eol;
     private boolean markedEol;
+    private TokenWithSource lastToken;
 
     /**
      * Create lexer from given buffered reader.
@@ -155,6 +156,36 @@ public class Lexer {
         throw new ParsingException(section, "Unrecognized lexeme: " + Character.toString(c));
     }
 
+    @Override
+    public Token nextToken() throws IOException {
+        var t = readToken();
+        if (t.isEmpty()) {
+            return null;
+        }
+        lastToken = t.get();
+        return lastToken.token();
+    }
+
+    @Override
+    public int tokenStartLine() {
+        return lastToken.startLine();
+    }
+
+    @Override
+    public int tokenStartColumn() {
+        return lastToken.startColumn();
+    }
+
+    @Override
+    public int tokenEndLine() {
+        return lastToken.endLine();
+    }
+
+    @Override
+    public int tokenEndColumn() {
+        return lastToken.endColumn();
+    }
+
     private Token.StringToken readStringLiteral() throws IOException {
         var sb = new StringBuilder();
         while (true) {
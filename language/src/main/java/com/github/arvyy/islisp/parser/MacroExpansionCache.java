@@ -0,0 +1,228 @@
+package com.github.arvyy.islisp.parser;
+
+import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Pair;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Memoized macro expansions, keyed by macro function identity and macro call form's structure.
+ * Only sound for macros whose expansion depends solely on the call form; therefore enabled
+ * only through an option. Expansions of a macro are dropped when the macro is redefined.
+ * Expansions are stored as templates, in which parts taken from the call form are recorded as paths
+ * into the form; each use gets a fresh copy, built from the using call form's own parts,
+ * so that source positions of those parts are those of the using call site.
+ */
+public final class MacroExpansionCache {
+
+    // forms larger than this (or cyclic) aren't cached
+    private static final int MAX_FORM_SIZE = 4096;
+    private static final int MAX_EXPANSIONS_PER_MACRO = 1024;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<LispFunction, Map<FormKey, Object>> expansions;
+    private int visitedPairs;
+
+    /**
+     * Create empty cache.
+     */
+    public MacroExpansionCache() {
+        expansions = new IdentityHashMap<>();
+    }
+
+    /**
+     * Find previous expansion of a structurally equal form.
+     *
+     * @param macro macro function
+     * @param form macro call form
+     * @return expansion or null if there is none
+     */
+    public Object get(LispFunction macro, Object form) {
+        var macroExpansions = expansions.get(macro);
+        if (macroExpansions == null) {
+            return null;
+        }
+        var hash = hash(form);
+        if (hash == null) {
+            return null;
+        }
+        var template = macroExpansions.get(new FormKey(form, hash));
+        if (template == null) {
+            return null;
+        }
+        return instantiate(template, form);
+    }
+
+    /**
+     * Remember macro's expansion for a given form.
+     *
+     * @param macro macro function
+     * @param form macro call form
+     * @param expansion expansion result
+     */
+    public void put(LispFunction macro, Object form, Object expansion) {
+        var hash = hash(form);
+        if (hash == null) {
+            return;
+        }
+        var formParts = new IdentityHashMap<Object, FormPath>();
+        collectParts(form, FormPath.ROOT, formParts);
+        visitedPairs = 0;
+        var template = toTemplate(expansion, formParts);
+        if (visitedPairs > MAX_FORM_SIZE) {
+            return;
+        }
+        var macroExpansions = expansions.computeIfAbsent(macro, m -> new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FormKey, Object> eldest) {
+                return size() > MAX_EXPANSIONS_PER_MACRO;
+            }
+        });
+        // copy so that later mutation of the original form can't corrupt the key
+        macroExpansions.put(new FormKey(copy(form), hash), template);
+    }
+
+    /**
+     * Drop all expansions of a given macro.
+     *
+     * @param macro macro function
+     */
+    public void invalidate(LispFunction macro) {
+        expansions.remove(macro);
+    }
+
+    private Integer hash(Object form) {
+        visitedPairs = 0;
+        var hash = hashStep(form);
+        if (visitedPairs > MAX_FORM_SIZE) {
+            return null;
+        }
+        return hash;
+    }
+
+    private int hashStep(Object form) {
+        int hash = 1;
+        var value = form;
+        while (value instanceof Pair p) {
+            visitedPairs++;
+            if (visitedPairs > MAX_FORM_SIZE) {
+                return 0;
+            }
+            hash = HASH_MULTIPLIER * hash + hashStep(p.car());
+            value = p.cdr();
+        }
+        return HASH_MULTIPLIER * hash + Objects.hashCode(value);
+    }
+
+    static boolean structurallyEqual(Object a, Object b) {
+        while (a instanceof Pair pa && b instanceof Pair pb) {
+            if (!structurallyEqual(pa.car(), pb.car())) {
+                return false;
+            }
+            a = pa.cdr();
+            b = pb.cdr();
+        }
+        if (a instanceof Pair || b instanceof Pair) {
+            return false;
+        }
+        return Objects.equals(a, b);
+    }
+
+    private static void collectParts(Object form, FormPath path, Map<Object, FormPath> parts) {
+        var value = form;
+        var valuePath = path;
+        while (true) {
+            parts.putIfAbsent(value, valuePath);
+            if (!(value instanceof Pair p)) {
+                return;
+            }
+            collectParts(p.car(), valuePath.car(), parts);
+            value = p.cdr();
+            valuePath = valuePath.cdr();
+        }
+    }
+
+    private Object toTemplate(Object expansion, Map<Object, FormPath> formParts) {
+        var path = formParts.get(expansion);
+        if (path != null) {
+            return path;
+        }
+        if (expansion instanceof Pair p) {
+            visitedPairs++;
+            if (visitedPairs > MAX_FORM_SIZE) {
+                return null;
+            }
+            return new Pair(toTemplate(p.car(), formParts), toTemplate(p.cdr(), formParts));
+        }
+        return expansion;
+    }
+
+    private static Object instantiate(Object template, Object form) {
+        if (template instanceof FormPath path) {
+            return path.resolve(form);
+        }
+        if (template instanceof Pair p) {
+            return new Pair(instantiate(p.car(), form), instantiate(p.cdr(), form));
+        }
+        return template;
+    }
+
+    static Object copy(Object form) {
+        if (form instanceof Pair p) {
+            return new Pair(copy(p.car()), copy(p.cdr()));
+        }
+        return form;
+    }
+
+    /**
+     * Location of a subform within a form.
+     *
+     * @param steps sequence of car (false) / cdr (true) steps
+     */
+    private record FormPath(boolean[] steps) {
+
+        static final FormPath ROOT = new FormPath(new boolean[0]);
+
+        FormPath car() {
+            return append(false);
+        }
+
+        FormPath cdr() {
+            return append(true);
+        }
+
+        private FormPath append(boolean step) {
+            var newSteps = Arrays.copyOf(steps, steps.length + 1);
+            newSteps[steps.length] = step;
+            return new FormPath(newSteps);
+        }
+
+        Object resolve(Object form) {
+            var value = form;
+            for (var step: steps) {
+                var p = (Pair) value;
+                value = step ? p.cdr() : p.car();
+            }
+            return value;
+        }
+    }
+
+    private record FormKey(Object form, int hash) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof FormKey other && hash == other.hash && structurallyEqual(form, other.form);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
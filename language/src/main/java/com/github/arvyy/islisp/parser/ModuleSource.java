@@ -13,11 +13,13 @@ import java.util.List;
  * @param requires list of required modules
  * @param provides list of exports
  * @param content unparsed sexprs of module's content
+ * @param positions source positions of content's sexprs, released once module is executed
  */
 public record ModuleSource(
     String name,
     SourceSection sourceSection,
     List<String> requires,
     List<SymbolReference> provides,
-    List<Object> content
+    List<Object> content,
+    SourcePositions positions
 ) { }
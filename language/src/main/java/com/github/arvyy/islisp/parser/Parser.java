@@ -6,17 +6,18 @@ import com.github.arvyy.islisp.Utils;
 import com.github.arvyy.islisp.functions.ISLISPDefaultHandler;
 import com.github.arvyy.islisp.nodes.*;
 import com.github.arvyy.islisp.runtime.*;
+import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleFile;
-import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.nodes.NodeUtil;
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.api.source.SourceSection;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -24,14 +25,18 @@ import java.util.stream.Collectors;
  */
 public class Parser {
 
+    // upper bound of top level forms executed within a single root node
+    private static final int MAX_BATCH_SIZE = 64;
+
     private final Set<String> moduleLoadInProgress;
-    private final Map<EqWrapper, SourceSection> sourceSectionMap;
+    private SourcePositions positions;
+    private TopLevelBatch batch;
 
     /**
      * Create parser.
      */
     public Parser() {
-        sourceSectionMap = new HashMap<>();
+        positions = new SourcePositions(null);
         moduleLoadInProgress = new HashSet<>();
     }
 
@@ -51,9 +56,31 @@ public class Parser {
      */
     //TODO rename
     public ISLISPRootNode createMainModuleNode(ISLISPTruffleLanguage language, String module, Source source) {
+        return createMainModuleNode(language, module, source, false);
+    }
+
+    /**
+     * Returns root node for code given to `eval`. Same as `createMainModuleNode`, except that
+     * the parsed result is kept and reused by subsequent calls to the root node for as long as
+     * no global bindings are (re)defined.
+     *
+     * @param language language reference
+     * @param source code to evaluate
+     * @return root node
+     */
+    public ISLISPRootNode createEvalNode(ISLISPTruffleLanguage language, Source source) {
+        return createMainModuleNode(language, "MAIN", source, true);
+    }
+
+    private ISLISPRootNode createMainModuleNode(
+        ISLISPTruffleLanguage language,
+        String module,
+        Source source,
+        boolean reusable
+    ) {
         var topLevelConditionHandler = new ISLISPWithHandlerNode(
             new ISLISPLiteralNode(ISLISPDefaultHandler.makeLispFunction(language, source.isInteractive()), null),
-            new ISLISPExpressionNode[]{new ISLISPModuleNode(this, parseModuleSource(module, source))},
+            new ISLISPExpressionNode[]{new ISLISPModuleNode(this, parseModuleSource(module, source), reusable)},
             null
         );
         return new ISLISPRootNode(
@@ -77,7 +104,8 @@ public class Parser {
         ISLISPDebuggerNode debuggerNode,
         Source source
     ) {
-        var reader = new Reader(source, sourceSectionMap);
+        positions = new SourcePositions(source);
+        var reader = new Reader(source, positions);
         var sexprs = reader.readAll();
         var exprs = new ArrayList<ISLISPExpressionNode>();
         for (var sexpr: sexprs) {
@@ -87,9 +115,27 @@ public class Parser {
         return new ISLISPRootNode(language, exprs.toArray(ISLISPExpressionNode[]::new), null);
     }
 
+    /**
+     * Read module's top level forms and import/export metadata.
+     *
+     * @param name module name
+     * @param source module's source
+     * @return module source
+     */
     @CompilerDirectives.TruffleBoundary
-    ModuleSource parseModuleSource(String name, Source source) {
-        var reader = new Reader(source, sourceSectionMap);
+    public ModuleSource parseModuleSource(String name, Source source) {
+        var modulePositions = new SourcePositions(source);
+        var previousPositions = positions;
+        positions = modulePositions;
+        try {
+            return parseModuleSource(name, source, modulePositions);
+        } finally {
+            positions = previousPositions;
+        }
+    }
+
+    private ModuleSource parseModuleSource(String name, Source source, SourcePositions modulePositions) {
+        var reader = new Reader(source, modulePositions);
         var content = reader.readAll();
         var rest = new ArrayList<>(content.size());
         var requires = new ArrayList<String>();
@@ -113,7 +159,8 @@ public class Parser {
             }
             rest.add(obj);
         }
-        return new ModuleSource(name, source.createSection(0, source.getLength()), requires, provides, rest);
+        return new ModuleSource(
+            name, source.createSection(0, source.getLength()), requires, provides, rest, modulePositions);
     }
 
     SourceSection span(SourceSection a, SourceSection b) {
@@ -132,29 +179,72 @@ public class Parser {
      * might require execution of user code.
      * The expanded result must be spliced into node tree using exprCallback
      * to enable instrumentation.
+     * Consecutive top level forms are executed in batches within a single root node;
+     * a batch is run before any macro is invoked, after a form that defines a macro,
+     * and before reporting a parse error, so that user code observes the same order of effects
+     * as if each form was executed on its own.
+     *
      *
-     * @param module module to which given sexprs belong
-     * @param sexprs source code as a list of sexprs
-     * @param exprCallback callback to run upon evaluation of each top level sexpr
+     * @param moduleSource module with sexprs to execute
+     * @param exprCallback callback to run upon evaluation of each top level sexpr; receives
+     *                     parsed expression and call target of the root node it was executed in,
+     *                     which is shared by all expressions of the same batch
      * @return value of last expression
      */
-    public Object expandAndExecute(String module, List<Object> sexprs, Consumer<ISLISPExpressionNode> exprCallback) {
-        var parserContext = new ParserContext(module);
-        Object last = ISLISPContext.get(null).getNil();
-        for (var v: sexprs) {
-            var expression = parseExpressionNode(parserContext, v, true);
-            last = executeExpression(expression, parserContext.frameBuilder.build());
-            exprCallback.accept(expression);
+    public Object expandAndExecute(
+        ModuleSource moduleSource,
+        BiConsumer<ISLISPExpressionNode, CallTarget> exprCallback
+    ) {
+        var parserContext = new ParserContext(moduleSource.name());
+        var previousPositions = positions;
+        var previousBatch = batch;
+        positions = moduleSource.positions();
+        // interactive input reports errors per form, which requires each form to be its own root
+        var interactive = moduleSource.sourceSection() != null
+            && moduleSource.sourceSection().getSource().isInteractive();
+        batch = new TopLevelBatch(parserContext, exprCallback, interactive ? 1 : MAX_BATCH_SIZE);
+        try {
+            for (var v: moduleSource.content()) {
+                ISLISPExpressionNode expression;
+                try {
+                    expression = parseExpressionNode(parserContext, v, true);
+                } catch (RuntimeException e) {
+                    flushBatch();
+                    throw e;
+                }
+                batch.expressions.add(expression);
+                if (batch.expressions.size() >= batch.maxSize
+                    || NodeUtil.findFirstNodeInstance(expression, ISLISPDefMacroNode.class) != null
+                ) {
+                    flushBatch();
+                }
+            }
+            flushBatch();
+            return batch.lastValue;
+        } finally {
+            positions = previousPositions;
+            batch = previousBatch;
         }
-        return last;
     }
 
-    Object executeExpression(ISLISPExpressionNode expression, FrameDescriptor fd) {
+    /**
+     * Execute top level forms that were parsed but not yet executed.
+     */
+    void flushBatch() {
+        if (batch == null || batch.expressions.isEmpty()) {
+            return;
+        }
+        var expressions = batch.expressions.toArray(ISLISPExpressionNode[]::new);
+        batch.expressions.clear();
         var root = new ISLISPRootNode(
-            null,
-            new ISLISPExpressionNode[]{expression},
-            fd);
-        return root.getCallTarget().call();
+            ISLISPContext.get(null).getLanguage(),
+            expressions,
+            batch.parserContext.frameBuilder.build());
+        var callTarget = root.getCallTarget();
+        batch.lastValue = callTarget.call();
+        for (var expression: expressions) {
+            batch.callback.accept(expression, callTarget);
+        }
     }
 
     ISLISPExpressionNode parseExpressionNode(ParserContext parserContext, Object sexpr) {
@@ -174,6 +264,7 @@ public class Parser {
                     case "defmacro":
                     case "defun":
                     case "defmethod":
+                    case "defrecord":
                         throw new ParsingException(
                             source(sexpr),
                             String.format("%s required to be at top level.", carName));
@@ -201,6 +292,8 @@ public class Parser {
                     return parseDefun(parserContext, sexpr);
                 case "defmethod":
                     return parseDefMethod(parserContext, sexpr);
+                case "defrecord":
+                    return parseDefRecord(parserContext, sexpr);
                 case "catch":
                     return parseCatchNode(parserContext, sexpr);
                 case "throw":
@@ -285,7 +378,7 @@ public class Parser {
                         s,
                         value
                     ));
-                    sourceSectionMap.put(new EqWrapper(setq), source(sexpr));
+                    positions.copy(sexpr, setq);
                     return parseExpressionNode(parserContext, setq);
                 }
                 var placeList = requireList(place, 1, -1);
@@ -296,7 +389,7 @@ public class Parser {
                     return parseDirectSetfFunctionCall(parserContext, sexpr, placeList, value);
                 }
                 var transformed = setfDispatch.transform(placeList, value);
-                sourceSectionMap.put(new EqWrapper(transformed), source(sexpr));
+                positions.copy(sexpr, transformed);
                 return parseExpressionNode(
                         parserContext,
                         transformed);
@@ -636,21 +729,21 @@ public class Parser {
     Object macroExpand(String module, Object form, boolean single) {
         if (form instanceof Pair p && p.car() instanceof Symbol symbol) {
             var rest = p.cdr();
-            var maybeMacro = ISLISPContext.get(null).lookupMacro(module, symbol.identityReference());
+            var ctx = ISLISPContext.get(null);
+            var maybeMacro = ctx.lookupMacro(module, symbol.identityReference());
             if (maybeMacro != null) {
-                var args = new ArrayList<Object>();
-                args.add(null); // closure param
-                Iterable<Object> it = rest.equals(ISLISPContext.get(null).getNil()) ? List.of() : (Pair) rest;
-                for (var e: it) {
-                    args.add(e);
+                // macro may depend on effects of preceding top level forms; except for prelude macros
+                // used outside of prelude, which can't see anything defined by other modules
+                if ("ROOT".equals(module) || ctx.lookupMacro("ROOT", symbol.identityReference()) != maybeMacro) {
+                    flushBatch();
                 }
-                Object transformedSexpr;
-                try {
-                    transformedSexpr = maybeMacro.callTarget().call(args.toArray());
-                } catch (Exception e) {
-                    throw new ParsingException(
-                        source(form),
-                        "Unexpected error during macro expansion; " + e.getMessage());
+                var expansionCache = ctx.getMacroExpansionCache();
+                var transformedSexpr = expansionCache == null ? null : expansionCache.get(maybeMacro, form);
+                if (transformedSexpr == null) {
+                    transformedSexpr = callMacro(maybeMacro, form, rest);
+                    if (expansionCache != null) {
+                        expansionCache.put(maybeMacro, form, transformedSexpr);
+                    }
                 }
                 if (transformedSexpr instanceof Pair tp && !single) {
                     List<Object> parts;
@@ -663,11 +756,11 @@ public class Parser {
                             .map(part -> macroExpand(module, part, false))
                             .collect(Collectors.toList());
                     var transformedValue = Utils.listToValue(newParts);
-                    sourceSectionMap.put(new EqWrapper(transformedValue), source(form));
+                    positions.copy(form, transformedValue);
                     return transformedValue;
                 } else {
                     if (transformedSexpr instanceof Pair || transformedSexpr instanceof Symbol) {
-                        sourceSectionMap.put(new EqWrapper(transformedSexpr), source(form));
+                        positions.copy(form, transformedSexpr);
                     }
                     return transformedSexpr;
                 }
@@ -676,6 +769,22 @@ public class Parser {
         return form;
     }
 
+    Object callMacro(LispFunction macro, Object form, Object rest) {
+        var args = new ArrayList<Object>();
+        args.add(null); // closure param
+        Iterable<Object> it = rest.equals(Symbol.NIL) ? List.of() : (Pair) rest;
+        for (var e: it) {
+            args.add(e);
+        }
+        try {
+            return macro.callTarget().call(args.toArray());
+        } catch (Exception e) {
+            throw new ParsingException(
+                source(form),
+                "Unexpected error during macro expansion; " + e.getMessage());
+        }
+    }
+
     ISLISPSetDynamicNode parseSetDynamic(ParserContext parserContext, Object sexpr) {
         var args = requireList(sexpr, 3, 3);
         var initalizer = parseExpressionNode(parserContext, args.get(1));
@@ -763,8 +872,8 @@ public class Parser {
             }
         }
         ParserContext bodyParserContext;
-        int callNextMethodSlot;
-        int hasNextMethodSlot;
+        ParserContext.VariableContext callNextMethodVar = null;
+        ParserContext.VariableContext nextMethodPVar = null;
         ISLISPDefMethodNode.MethodQualifier methodQualifier = ISLISPDefMethodNode.MethodQualifier.none;
         if (methodQualifiers.contains(":before")) {
             if (methodQualifier != ISLISPDefMethodNode.MethodQualifier.none) {
@@ -787,15 +896,13 @@ public class Parser {
         if (methodQualifier == ISLISPDefMethodNode.MethodQualifier.before
                 || methodQualifier == ISLISPDefMethodNode.MethodQualifier.after
         ) {
-            callNextMethodSlot = -1;
-            hasNextMethodSlot = -1;
             bodyParserContext = parserContext;
         } else {
-            var callNextMethodVar = new ParserContext.VariableContext();
+            callNextMethodVar = new ParserContext.VariableContext();
             callNextMethodVar.slot = parserContext.frameBuilder.addSlot(FrameSlotKind.Object, null, null);
             callNextMethodVar.frameDepth = 0;
             callNextMethodVar.name = "call-next-method";
-            var nextMethodPVar = new ParserContext.VariableContext();
+            nextMethodPVar = new ParserContext.VariableContext();
             nextMethodPVar.slot = parserContext.frameBuilder.addSlot(FrameSlotKind.Object, null, null);
             nextMethodPVar.frameDepth = 0;
             nextMethodPVar.name = "next-method-p";
@@ -803,13 +910,18 @@ public class Parser {
                     ISLISPContext.get(null).namedSymbol("next-method-p").identityReference(), nextMethodPVar,
                     ISLISPContext.get(null).namedSymbol("call-next-method").identityReference(), callNextMethodVar
             ));
-            callNextMethodSlot = callNextMethodVar.slot;
-            hasNextMethodSlot = nextMethodPVar.slot;
         }
         var bodyStatements = args.stream()
                 .skip(paramListIndex + 1)
                 .map(v -> parseExpressionNode(bodyParserContext, v))
                 .toArray(ISLISPExpressionNode[]::new);
+        // next method functions are only set up if body actually refers to them
+        var callNextMethodSlot = callNextMethodVar != null && callNextMethodVar.referenced
+            ? callNextMethodVar.slot
+            : -1;
+        var hasNextMethodSlot = nextMethodPVar != null && nextMethodPVar.referenced
+            ? nextMethodPVar.slot
+            : -1;
         var body = new ISLISPPrognNode(
                 bodyStatements,
                 span(
@@ -840,6 +952,42 @@ public class Parser {
                 source(sexpr));
     }
 
+    ISLISPDefRecordNode parseDefRecord(ParserContext parserContext, Object sexpr) {
+        var args = requireList(sexpr, 4, -1);
+        var recordName = downcast(args.get(1), Symbol.class);
+        var constructor = requireList(args.get(2), 1, -1);
+        var constructorName = downcast(constructor.get(0), Symbol.class);
+        var predicateName = downcast(args.get(3), Symbol.class);
+        var fields = new ArrayList<ISLISPDefRecordNode.FieldDefinition>();
+        var fieldNames = new HashSet<SymbolReference>();
+        for (var e: args.subList(4, args.size())) {
+            var fieldSpec = requireList(e, 2, 3);
+            var fieldName = downcast(fieldSpec.get(0), Symbol.class);
+            if (!fieldNames.add(fieldName.identityReference())) {
+                throw new ParsingException(source(e), "Duplicate record field");
+            }
+            fields.add(new ISLISPDefRecordNode.FieldDefinition(
+                fieldName,
+                downcast(fieldSpec.get(1), Symbol.class),
+                fieldSpec.size() == 3 ? downcast(fieldSpec.get(2), Symbol.class) : null));
+        }
+        var constructorFields = new Symbol[constructor.size() - 1];
+        for (int i = 0; i < constructorFields.length; i++) {
+            constructorFields[i] = downcast(constructor.get(i + 1), Symbol.class);
+            if (!fieldNames.contains(constructorFields[i].identityReference())) {
+                throw new ParsingException(source(constructor.get(i + 1)), "Unknown record field");
+            }
+        }
+        return new ISLISPDefRecordNode(
+            parserContext.module,
+            recordName,
+            constructorName,
+            constructorFields,
+            predicateName,
+            fields,
+            source(sexpr));
+    }
+
     ISLISPDefClassNode parseDefClass(ParserContext parserContext, Object sexpr) {
         var ctx = ISLISPContext.get(null);
         var args = requireList(sexpr, 4, -1);
@@ -862,6 +1010,7 @@ public class Parser {
                 var boundp = new ArrayList<Symbol>();
                 Symbol initArg = null;
                 ISLISPRootNode initForm = null;
+                StandardClass.SlotType type = null;
 
                 for (int i = 1; i < slotDefLst.size(); i += 2) {
                     var key = downcast(slotDefLst.get(i), Symbol.class);
@@ -888,10 +1037,20 @@ public class Parser {
                             }
                             initArg = (Symbol) value;
                         }
+                        case ":type" -> {
+                            if (type != null) {
+                                throw new ParsingException(source(key), "Duplicate slot type");
+                            }
+                            type = StandardClass.SlotType.fromClassName(downcast(value, Symbol.class).name());
+                            if (type == null) {
+                                throw new ParsingException(source(value), "Unsupported slot type");
+                            }
+                        }
                         default -> throw new ParsingException(source(key), "Unknown defclass option");
                     }
                 }
                 slotDef.setInitArg(initArg);
+                slotDef.setType(type);
                 slotDef.setInitializer(initForm);
                 slotDef.setAccessorName(accessors.toArray(Symbol[]::new));
                 slotDef.setReaderName(readers.toArray(Symbol[]::new));
@@ -906,7 +1065,7 @@ public class Parser {
             var key = downcast(opt.get(0), Symbol.class);
             if (key.name().equals(":abstractp")) {
                 var value = downcast(opt.get(1), Symbol.class);
-                isAbstract = !(value.identityReference().getId() == ctx.getNil().identityReference().getId());
+                isAbstract = !(value.identityReference().getId() == Symbol.NIL.identityReference().getId());
             }
         }
         return new ISLISPDefClassNode(
@@ -1016,6 +1175,7 @@ public class Parser {
         var maybeVar = parserContext.localFunctions.get(name.identityReference());
         if (maybeVar.isPresent()) {
             var variableContext = maybeVar.get();
+            variableContext.referenced = true;
             var index = parserContext.frameDepth - variableContext.frameDepth;
             var functionLookup = new ISLISPLexicalIdentifierNode(index, variableContext.slot, source(name));
             return new ISLISPIndirectFunctionCallNode(
@@ -1190,6 +1350,7 @@ public class Parser {
         var maybeVar = parserContext.localFunctions.get(name.identityReference());
         if (maybeVar.isPresent()) {
             var variableContext = maybeVar.get();
+            variableContext.referenced = true;
             var index = parserContext.frameDepth - variableContext.frameDepth;
             return new ISLISPLexicalIdentifierNode(index, variableContext.slot, source(sexpr));
         } else {
@@ -1211,7 +1372,7 @@ public class Parser {
         }
         var test = body.get(0);
         var truthy = body.get(1);
-        var falsy = body.size() == 2 ? new ISLISPLiteralNode(ISLISPContext.get(null).getNil(), null) : body.get(2);
+        var falsy = body.size() == 2 ? new ISLISPLiteralNode(Symbol.NIL, null) : body.get(2);
         return new ISLISPIfNode(test, truthy, falsy, source(sexpr));
     }
 
@@ -1385,7 +1546,7 @@ public class Parser {
     }
 
     SourceSection source(Object sexpr) {
-        return sourceSectionMap.get(new EqWrapper(sexpr));
+        return positions.section(sexpr);
     }
 
     /**
@@ -1413,13 +1574,17 @@ public class Parser {
             var file = locateModuleSourceFile(module);
             var source = Source.newBuilder("islisp", file).build();
             var moduleSource = parseModuleSource(module, source);
+            if (ctx.getEnv().getOptions().get(ISLISPTruffleLanguage.LazyRequires) && isDeferrable(moduleSource)) {
+                ctx.createDeferredModule(module, moduleSource.provides(), () -> {
+                    ensureRequiresLoaded(moduleSource.requires());
+                    ISLISPContext.get(null).importDeferredModuleDependencies(module, moduleSource.requires());
+                    executeModule(moduleSource);
+                });
+                return;
+            }
             ensureRequiresLoaded(moduleSource.requires());
             ctx.createModule(module, moduleSource.requires(), moduleSource.provides());
-            new ISLISPRootNode(
-                ctx.getLanguage(),
-                new ISLISPExpressionNode[]{new ISLISPModuleNode(this, moduleSource)},
-                null
-            ).getCallTarget().call();
+            executeModule(moduleSource);
         } catch (IOException e) {
             throw new ParsingException(
                 null,
@@ -1427,6 +1592,105 @@ public class Parser {
         }
     }
 
+    void executeModule(ModuleSource moduleSource) {
+        new ISLISPRootNode(
+            ISLISPContext.get(null).getLanguage(),
+            new ISLISPExpressionNode[]{new ISLISPModuleNode(this, moduleSource, false)},
+            null
+        ).getCallTarget().call();
+    }
+
+    /**
+     * Checks if module can be loaded lazily, ie, if all of its exports are
+     * syntactically visible top level function or class definitions. Macros and variables are
+     * needed eagerly (during expansion or without a lookup that could trigger the load),
+     * so modules exporting those (or anything not recognized) are loaded immediately.
+     *
+     * @param moduleSource module
+     * @return true if module's loading can be deferred until first export lookup
+     */
+    boolean isDeferrable(ModuleSource moduleSource) {
+        if (moduleSource.provides().isEmpty()) {
+            return false;
+        }
+        var defined = new HashSet<SymbolReference>();
+        for (var form: moduleSource.content()) {
+            if (!(form instanceof Pair p && p.car() instanceof Symbol s && p.cdr() instanceof Pair rest)) {
+                continue;
+            }
+            switch (s.name()) {
+                case "defun", "defgeneric", "defmethod" -> {
+                    if (rest.car() instanceof Symbol name) {
+                        defined.add(name.identityReference());
+                    } else if (rest.car() instanceof Pair setfSpec
+                        && setfSpec.cdr() instanceof Pair setfRest
+                        && setfRest.car() instanceof Symbol name
+                    ) {
+                        defined.add(name.identityReference());
+                    }
+                }
+                case "defclass" -> {
+                    if (rest.car() instanceof Symbol name) {
+                        defined.add(name.identityReference());
+                    }
+                    collectSlotFunctionNames(rest, defined);
+                }
+                case "defrecord" -> collectRecordNames(rest, defined);
+                default -> { }
+            }
+        }
+        return defined.containsAll(moduleSource.provides());
+    }
+
+    private void collectRecordNames(Pair defrecordRest, Set<SymbolReference> names) {
+        // record name, constructor, predicate, and field accessors / modifiers
+        Object rest = defrecordRest;
+        while (rest instanceof Pair p) {
+            if (p.car() instanceof Symbol s) {
+                names.add(s.identityReference());
+            } else if (p.car() instanceof Pair spec) {
+                if (rest == defrecordRest.cdr()) {
+                    // constructor spec
+                    if (spec.car() instanceof Symbol s) {
+                        names.add(s.identityReference());
+                    }
+                } else if (spec.cdr() instanceof Pair fieldFunctions) {
+                    // field spec
+                    for (var e: fieldFunctions) {
+                        if (e instanceof Symbol s) {
+                            names.add(s.identityReference());
+                        }
+                    }
+                }
+            }
+            rest = p.cdr();
+        }
+    }
+
+    private void collectSlotFunctionNames(Pair defclassRest, Set<SymbolReference> names) {
+        if (!(defclassRest.cdr() instanceof Pair parents && parents.cdr() instanceof Pair slots)) {
+            return;
+        }
+        if (!(slots.car() instanceof Pair slotList)) {
+            return;
+        }
+        for (var slot: slotList) {
+            if (!(slot instanceof Pair slotSpec)) {
+                continue;
+            }
+            var options = slotSpec.cdr();
+            while (options instanceof Pair key && key.cdr() instanceof Pair value) {
+                if (key.car() instanceof Symbol k && value.car() instanceof Symbol v) {
+                    switch (k.name()) {
+                        case ":reader", ":writer", ":accessor", ":boundp" -> names.add(v.identityReference());
+                        default -> { }
+                    }
+                }
+                options = value.cdr();
+            }
+        }
+    }
+
     TruffleFile locateModuleSourceFile(String module) {
         var env = ISLISPContext.get(null).getEnv();
         for (var rootPath: env.getOptions().get(ISLISPTruffleLanguage.Sourcepath).split(":")) {
@@ -1439,6 +1703,26 @@ public class Parser {
         throw new ParsingException(null, "Failed to find module source for " + module + ".");
     }
 
+    private static final class TopLevelBatch {
+        final ParserContext parserContext;
+        final BiConsumer<ISLISPExpressionNode, CallTarget> callback;
+        final int maxSize;
+        final List<ISLISPExpressionNode> expressions;
+        Object lastValue;
+
+        TopLevelBatch(
+            ParserContext parserContext,
+            BiConsumer<ISLISPExpressionNode, CallTarget> callback,
+            int maxSize
+        ) {
+            this.parserContext = parserContext;
+            this.callback = callback;
+            this.maxSize = maxSize;
+            expressions = new ArrayList<>();
+            lastValue = Symbol.NIL;
+        }
+    }
+
     static class SlotsAndNewContext {
         int[] namedArgsSlots;
         int restArgsSlot;
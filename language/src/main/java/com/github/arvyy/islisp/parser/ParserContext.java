@@ -137,6 +137,8 @@ public class ParserContext {
         String name;
         int frameDepth;
         int slot;
+        // whether any code refers to this variable
+        boolean referenced;
     }
 
     /**
@@ -1,6 +1,5 @@
 package com.github.arvyy.islisp.parser;
 
-import com.github.arvyy.islisp.ISLISPContext;
 import com.github.arvyy.islisp.runtime.*;
 import com.oracle.truffle.api.nodes.ControlFlowException;
 import com.oracle.truffle.api.source.SourceSection;
@@ -176,7 +175,7 @@ public sealed interface QuasiquoteTree {
             return substitutionValues[u.value.index];
         }
         if (tree instanceof List l) {
-            Object lispList = ISLISPContext.get(null).getNil();
+            Object lispList = Symbol.NIL;
             var values = evalQuasiquoteCollectionContent(l.children, substitutionValues);
             for (int i = values.size() - 1; i >= 0; i--) {
                 lispList = new Pair(values.get(i), lispList);
@@ -187,7 +186,7 @@ public sealed interface QuasiquoteTree {
             var values =  evalQuasiquoteCollectionContent(v.children, substitutionValues);
             return new LispVector(values.toArray());
         }
-        return ISLISPContext.get(null).getNil();
+        return Symbol.NIL;
     }
 
     private static java.util.List<Object> evalQuasiquoteCollectionContent(
@@ -203,7 +202,7 @@ public sealed interface QuasiquoteTree {
                         values.add(v);
                     }
                 } else if (substitution instanceof Symbol s) {
-                    if (s != ISLISPContext.get(null).getNil()) {
+                    if (s != Symbol.NIL) {
                         throw new UnquoteSpliceNotAListException(substitution);
                     }
                 } else {
@@ -12,7 +12,6 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -22,30 +21,43 @@ import java.util.Optional;
 //TODO rename to not clash with java.io.reader
 public class Reader {
 
-    private final Lexer lexer;
+    private final Tokenizer lexer;
     private final Source source;
-    private final Map<EqWrapper, SourceSection> sourceSectionMap;
-    private TokenWithSource peekedToken;
+    private final SourcePositions positions;
 
-    private TokenWithSource lastToken;
+    private Token peekedToken;
+    private int peekedStartLine;
+    private int peekedStartColumn;
+    private int peekedEndLine;
+    private int peekedEndColumn;
+
+    private Token lastToken;
+    private int lastStartLine;
+    private int lastStartColumn;
+    private int lastEndLine;
+    private int lastEndColumn;
 
     /**
      * Create reader from given source.
      *
      * @param source source to read from
-     * @param sourceSectionMap map to populate with source location information while reading
+     * @param positions table to populate with source location information while reading
      */
     @CompilerDirectives.TruffleBoundary
-    public Reader(Source source, Map<EqWrapper, SourceSection> sourceSectionMap) {
+    public Reader(Source source, SourcePositions positions) {
         this.source = source;
-        BufferedReader bufferedReader;
-        if (source.getReader() instanceof BufferedReader br) {
-            bufferedReader = br;
+        if (source.hasCharacters()) {
+            lexer = new CharArrayLexer(source);
         } else {
-            bufferedReader = new BufferedReader(source.getReader());
+            BufferedReader bufferedReader;
+            if (source.getReader() instanceof BufferedReader br) {
+                bufferedReader = br;
+            } else {
+                bufferedReader = new BufferedReader(source.getReader());
+            }
+            lexer = new Lexer(new LexerSourceFromReader(bufferedReader, source));
         }
-        lexer = new Lexer(new LexerSourceFromReader(bufferedReader, source));
-        this.sourceSectionMap = sourceSectionMap;
+        this.positions = positions;
     }
 
     /**
@@ -56,68 +68,85 @@ public class Reader {
     @CompilerDirectives.TruffleBoundary
     public Reader(LispStream stream) {
         this.source = null;
-        this.sourceSectionMap = null;
+        this.positions = new SourcePositions(null);
         lexer = new Lexer(new LexerSourceFromLispStream(stream));
     }
 
+    /**
+     * @return next token without consuming it, or null if at end of input
+     */
     @CompilerDirectives.TruffleBoundary
-    Optional<Token> peekToken() throws IOException {
-        if (peekedToken != null) {
-            return Optional.of(peekedToken.token());
-        }
-        var t = lexer.readToken();
-        if (t.isPresent()) {
-            peekedToken = t.get();
-            return Optional.of(peekedToken.token());
+    Token peekToken() throws IOException {
+        if (peekedToken == null) {
+            peekedToken = lexer.nextToken();
+            if (peekedToken != null) {
+                peekedStartLine = lexer.tokenStartLine();
+                peekedStartColumn = lexer.tokenStartColumn();
+                peekedEndLine = lexer.tokenEndLine();
+                peekedEndColumn = lexer.tokenEndColumn();
+            }
         }
-        return Optional.empty();
+        return peekedToken;
     }
 
+    /**
+     * @return next token, or null if at end of input
+     */
     @CompilerDirectives.TruffleBoundary
-    Optional<Token> getToken() throws IOException {
+    Token getToken() throws IOException {
         if (peekedToken != null) {
             lastToken = peekedToken;
+            lastStartLine = peekedStartLine;
+            lastStartColumn = peekedStartColumn;
+            lastEndLine = peekedEndLine;
+            lastEndColumn = peekedEndColumn;
             peekedToken = null;
-            return Optional.of(lastToken.token());
+            return lastToken;
         }
-        var t = lexer.readToken();
-        if (t.isPresent()) {
-            lastToken = t.get();
-        } else {
-            return Optional.empty();
+        var t = lexer.nextToken();
+        if (t == null) {
+            return null;
         }
-        return Optional.of(lastToken.token());
+        lastToken = t;
+        lastStartLine = lexer.tokenStartLine();
+        lastStartColumn = lexer.tokenStartColumn();
+        lastEndLine = lexer.tokenEndLine();
+        lastEndColumn = lexer.tokenEndColumn();
+        return lastToken;
     }
 
     int getLine() {
         if (lastToken == null) {
             return 1;
         }
-        return lastToken.startLine();
+        return lastStartLine;
     }
 
     int getColumn() {
         if (lastToken == null) {
             return 1;
         }
-        return lastToken.startColumn();
+        return lastStartColumn;
     }
 
     int getEndLine() {
         if (lastToken == null) {
             return 1;
         }
-        return lastToken.endLine();
+        return lastEndLine;
     }
 
     int getEndColumn() {
         if (lastToken == null) {
             return 1;
         }
-        return lastToken.endColumn();
+        return lastEndColumn;
     }
 
     SourceSection section() {
+        if (source == null) {
+            return null;
+        }
         return source.createSection(getLine(), getColumn(), getEndLine(), getEndColumn());
     }
 
@@ -148,18 +177,15 @@ public class Reader {
      */
     @CompilerDirectives.TruffleBoundary
     public Optional<Object> readSingle() throws IOException {
-        Optional<Token> maybeT = getToken();
-        if (maybeT.isEmpty()) {
+        var t = getToken();
+        if (t == null) {
             return Optional.empty();
         }
-        var t = maybeT.get();
         if (t instanceof Token.IdentifierToken) {
             var identifier = ((Token.IdentifierToken) t).identifier();
             var symbol = ISLISPContext.get(null).namedSymbol(identifier);
             var symbolWithSource = new Symbol(symbol.name(), symbol.identityReference());
-            if (source != null) {
-                sourceSectionMap.put(new EqWrapper(symbolWithSource), section());
-            }
+            positions.put(symbolWithSource, getLine(), getColumn(), getEndLine(), getEndColumn());
             return Optional.of(symbolWithSource);
         }
         if (t instanceof Token.ExactNumberToken) {
@@ -191,28 +217,27 @@ public class Reader {
             } else {
                 symbolName = "unquote";
             }
-            var quoteSection = section();
+            var quoteLine = getLine();
+            var quoteColumn = getColumn();
             var value = readSingle().orElseThrow(() ->
                     new ParsingException(section(), "Unexpected end of file"));
             var normalizedSyntaxSymbol = ISLISPContext.get(null).namedSymbol(symbolName);
-            var nil = ISLISPContext.get(null).getNil();
-            SourceSection fullSection = null;
-            if (source != null) {
-                var endSection = sourceSectionMap.get(new EqWrapper(value));
-                if (quoteSection != null && endSection != null) {
-                    fullSection = source.createSection(
-                        quoteSection.getStartLine(),
-                        quoteSection.getStartColumn(),
-                        endSection.getEndLine(),
-                        endSection.getEndColumn());
-                }
-            }
+            var nil = Symbol.NIL;
             var result = new Pair(
                 normalizedSyntaxSymbol,
                 new Pair(
                     value,
                     nil));
-            sourceSectionMap.put(new EqWrapper(result), fullSection);
+            var valueEndLine = positions.endLine(value);
+            var valueEndColumn = positions.endColumn(value);
+            if (value instanceof LispChar) {
+                // character has no recorded position, but it's the token that was just read
+                valueEndLine = getEndLine();
+                valueEndColumn = getEndColumn();
+            }
+            if (valueEndLine != 0) {
+                positions.put(result, quoteLine, quoteColumn, valueEndLine, valueEndColumn);
+            }
             return Optional.of(result);
         }
         if (t instanceof Token.ArrayBracketOpenToken arr && arr.dimensions() > 1) {
@@ -222,10 +247,7 @@ public class Reader {
             var array = new LispArray(content, arr.dimensions());
             var endLine = getLine();
             var endColumn = getColumn();
-            if (source != null) {
-                var section = source.createSection(startLine, startColumn, endLine, endColumn);
-                sourceSectionMap.put(new EqWrapper(array), section);
-            }
+            positions.put(array, startLine, startColumn, endLine, endColumn);
             return Optional.of(array);
         }
         if (t instanceof Token.VectorBracketOpenToken
@@ -236,25 +258,20 @@ public class Reader {
             var vec = new LispVector(readUntilClosingBracket());
             var endLine = getLine();
             var endColumn = getColumn();
-            if (source != null) {
-                var section = source.createSection(startLine, startColumn, endLine, endColumn);
-                sourceSectionMap.put(new EqWrapper(vec), section);
-            }
+            positions.put(vec, startLine, startColumn, endLine, endColumn);
             return Optional.of(vec);
         }
         if (t instanceof Token.BracketOpenToken) {
             var startLine = getLine();
             var startColumn = getColumn();
-            Optional<Token> next;
             var lst = new ArrayList<Object>();
             var periodSeen = false;
             Object tail = null;
             while (true) {
-                next = peekToken();
-                if (next.isEmpty()) {
+                var token = peekToken();
+                if (token == null) {
                     throw new ParsingException(section(), "Unexpected end of file");
                 }
-                var token = next.get();
                 if (token instanceof Token.PeriodToken) {
                     if (periodSeen) {
                         throw new ParsingException(section(), "Malformed dotted list");
@@ -271,23 +288,17 @@ public class Reader {
                     var endLine = getLine();
                     var endColumn = getColumn();
                     if (lst.isEmpty()) {
-                        var nil = ISLISPContext.get(null).getNil();
+                        var nil = Symbol.NIL;
                         var nilWithPos = new Symbol(nil.name(), nil.identityReference());
-                        if (source != null) {
-                            var section = source.createSection(startLine, startColumn, endLine, endColumn);
-                            sourceSectionMap.put(new EqWrapper(nilWithPos), section);
-                        }
+                        positions.put(nilWithPos, startLine, startColumn, endLine, endColumn);
                         return Optional.of(nilWithPos);
                     } else {
-                        tail = tail == null ? ISLISPContext.get(null).getNil() : tail;
+                        tail = tail == null ? Symbol.NIL : tail;
                         for (var i = lst.size() - 1; i >= 0; i--) {
                             tail = new Pair(lst.get(i), tail);
                         }
                         var parsedTail = (Pair) tail;
-                        if (source != null) {
-                            var section = source.createSection(startLine, startColumn, endLine, endColumn);
-                            sourceSectionMap.put(new EqWrapper(parsedTail), section);
-                        }
+                        positions.put(parsedTail, startLine, startColumn, endLine, endColumn);
                         return Optional.of(parsedTail);
                     }
                 }
@@ -303,11 +314,8 @@ public class Reader {
             }
         }
         if (t instanceof Token.CharToken c) {
-            var lispChar = new LispChar(c.value());
-            if (source != null) {
-                sourceSectionMap.put(new EqWrapper(lispChar), section());
-            }
-            return Optional.of(lispChar);
+            // characters are shared instances, so their positions aren't recorded
+            return Optional.of(LispChar.valueOf(c.value()));
         }
         if (t instanceof Token.StringToken str) {
             return Optional.of(str.value());
@@ -321,11 +329,10 @@ public class Reader {
         }
         var content = new ArrayList<>();
         while (true) {
-            var next = getToken();
-            if (next.isEmpty()) {
+            var token = getToken();
+            if (token == null) {
                 throw new ParsingException(section(), "Unexpected end of file");
             }
-            var token = next.get();
             if (token instanceof Token.BracketCloseToken) {
                 return content.toArray();
             } else if (token instanceof Token.BracketOpenToken) {
@@ -337,14 +344,12 @@ public class Reader {
     }
 
     Object[] readUntilClosingBracket() throws IOException {
-        Optional<Token> next;
         var lst = new ArrayList<Object>();
         while (true) {
-            next = peekToken();
-            if (next.isEmpty()) {
+            var token = peekToken();
+            if (token == null) {
                 throw new ParsingException(section(), "Unexpected end of file");
             }
-            var token = next.get();
             if (token instanceof Token.BracketCloseToken) {
                 getToken();
                 return lst.toArray();
@@ -0,0 +1,165 @@
+package com.github.arvyy.islisp.parser;
+
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.source.SourceSection;
+
+/**
+ * Source positions of sexprs read from a single source, keyed by object identity.
+ * Positions are stored as plain ints in a flat open addressing table,
+ * and source sections are only created when requested.
+ * Table is meant to live only while the module is being parsed, after which it is released.
+ */
+public final class SourcePositions {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int FIELDS = 4;
+    private static final int END_LINE = 2;
+    private static final int END_COLUMN = 3;
+
+    private final Source source;
+    private Object[] keys;
+    private int[] positions;
+    private int size;
+
+    /**
+     * Create empty position table.
+     *
+     * @param source source that recorded positions refer to. Can be null,
+     *               in which case no positions are recorded.
+     */
+    public SourcePositions(Source source) {
+        this.source = source;
+        if (source != null) {
+            keys = new Object[INITIAL_CAPACITY];
+            positions = new int[INITIAL_CAPACITY * FIELDS];
+        }
+    }
+
+    /**
+     * Record position of a given object.
+     *
+     * @param key object read from source
+     * @param startLine start line
+     * @param startColumn start column
+     * @param endLine end line
+     * @param endColumn end column
+     */
+    public void put(Object key, int startLine, int startColumn, int endLine, int endColumn) {
+        if (keys == null) {
+            return;
+        }
+        var slot = slot(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            size++;
+        }
+        var offset = slot * FIELDS;
+        positions[offset] = startLine;
+        positions[offset + 1] = startColumn;
+        positions[offset + END_LINE] = endLine;
+        positions[offset + END_COLUMN] = endColumn;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Make target have the same position as the origin, or no position if origin doesn't have one.
+     *
+     * @param from origin object
+     * @param to target object
+     */
+    public void copy(Object from, Object to) {
+        if (keys == null) {
+            return;
+        }
+        var fromSlot = slot(from);
+        if (keys[fromSlot] == null) {
+            put(to, 0, 0, 0, 0);
+        } else {
+            var offset = fromSlot * FIELDS;
+            put(to, positions[offset], positions[offset + 1],
+                positions[offset + END_LINE], positions[offset + END_COLUMN]);
+        }
+    }
+
+    /**
+     * @param key object read from source
+     * @return end line of object's position, or 0 if unknown
+     */
+    public int endLine(Object key) {
+        return field(key, END_LINE);
+    }
+
+    /**
+     * @param key object read from source
+     * @return end column of object's position, or 0 if unknown
+     */
+    public int endColumn(Object key) {
+        return field(key, END_COLUMN);
+    }
+
+    /**
+     * Create source section for given object.
+     *
+     * @param key object read from source
+     * @return source section, or null if position is unknown
+     */
+    public SourceSection section(Object key) {
+        if (keys == null) {
+            return null;
+        }
+        var slot = slot(key);
+        var offset = slot * FIELDS;
+        if (keys[slot] == null || positions[offset] == 0) {
+            return null;
+        }
+        return source.createSection(
+            positions[offset], positions[offset + 1],
+            positions[offset + END_LINE], positions[offset + END_COLUMN]);
+    }
+
+    /**
+     * Drop all recorded positions; afterwards the table no longer retains any objects.
+     */
+    public void release() {
+        keys = null;
+        positions = null;
+        size = 0;
+    }
+
+    private int field(Object key, int field) {
+        if (keys == null) {
+            return 0;
+        }
+        var slot = slot(key);
+        if (keys[slot] == null) {
+            return 0;
+        }
+        return positions[slot * FIELDS + field];
+    }
+
+    private int slot(Object key) {
+        var mask = keys.length - 1;
+        var slot = System.identityHashCode(key) & mask;
+        while (keys[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        var oldKeys = keys;
+        var oldPositions = positions;
+        keys = new Object[oldKeys.length * 2];
+        positions = new int[oldPositions.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                var slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                System.arraycopy(oldPositions, i * FIELDS, positions, slot * FIELDS, FIELDS);
+            }
+        }
+    }
+
+}
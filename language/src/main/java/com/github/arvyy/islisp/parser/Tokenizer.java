@@ -0,0 +1,39 @@
+package com.github.arvyy.islisp.parser;
+
+import java.io.IOException;
+
+/**
+ * Token input used by reader. Position information describes
+ * the token most recently returned from `nextToken`.
+ */
+public interface Tokenizer {
+
+    /**
+     * Read next token.
+     *
+     * @return token, or null if input is exhausted.
+     * @throws IOException
+     */
+    Token nextToken() throws IOException;
+
+    /**
+     * @return start line of last read token.
+     */
+    int tokenStartLine();
+
+    /**
+     * @return start column of last read token.
+     */
+    int tokenStartColumn();
+
+    /**
+     * @return end line of last read token.
+     */
+    int tokenEndLine();
+
+    /**
+     * @return end column of last read token.
+     */
+    int tokenEndColumn();
+
+}
@@ -10,19 +10,24 @@ import java.util.List;
  */
 public final class BuiltinClass implements LispClass, TruffleObject {
 
+    private final int id;
     private final List<LispClass> parents;
+    private final SuperclassSet superclasses;
     private final Symbol name;
     private final boolean isAbstract;
 
     /**
      * Create builtin class.
      *
+     * @param id unique class id
      * @param parents list of parents
      * @param name class name
      * @param isAbstract if this class cannot be instantiated directly
      */
-    public BuiltinClass(List<LispClass> parents, Symbol name, boolean isAbstract) {
+    public BuiltinClass(int id, List<LispClass> parents, Symbol name, boolean isAbstract) {
+        this.id = id;
         this.parents = parents;
+        this.superclasses = new SuperclassSet(id, parents);
         this.name = name;
         this.isAbstract = isAbstract;
     }
@@ -32,6 +37,16 @@ public final class BuiltinClass implements LispClass, TruffleObject {
         return parents;
     }
 
+    @Override
+    public int id() {
+        return id;
+    }
+
+    @Override
+    public SuperclassSet superclasses() {
+        return superclasses;
+    }
+
     @Override
     public boolean isAbstract() {
         return isAbstract;
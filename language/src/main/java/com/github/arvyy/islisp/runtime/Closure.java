@@ -1,5 +1,6 @@
 package com.github.arvyy.islisp.runtime;
 
+import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.frame.MaterializedFrame;
 
 /**
@@ -12,6 +13,13 @@ import com.oracle.truffle.api.frame.MaterializedFrame;
  * @param frame materialized closure frame
  * @param applicableMethods active applicable methods information in case of a generic chain call
  * @param args initial arguments to the generic call
+ * @param nextMethodCall `call-next-method` implementation specific to the generic chain position; if null,
+ *                       method's own is used
  */
-public record Closure(MaterializedFrame frame, GenericMethodApplicableMethods applicableMethods, Object[] args) {
+public record Closure(
+    MaterializedFrame frame,
+    GenericMethodApplicableMethods applicableMethods,
+    Object[] args,
+    RootCallTarget nextMethodCall
+) {
 }
@@ -69,7 +69,7 @@ public class GenericDispatchTree {
     void insertNewDispatchTreeBranch(GenericDispatchTree branch) {
         int index = children.size();
         for (int i = 0; i < children.size(); i++) {
-            if (isSubclassOf(branch.clazz, children.get(i).clazz)) {
+            if (branch.clazz.isSubclassOf(children.get(i).clazz)) {
                 index = i;
                 break;
             }
@@ -77,20 +77,6 @@ public class GenericDispatchTree {
         children.add(index, branch);
     }
 
-    private boolean isSubclassOf(LispClass cls1, LispClass cls2) {
-        Objects.requireNonNull(cls1);
-        Objects.requireNonNull(cls2);
-        if (cls1 == cls2) {
-            return true;
-        }
-        for (var p: cls1.getParents()) {
-            if (isSubclassOf(p, cls2)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * @return count of the tree entries
      */
@@ -116,13 +102,15 @@ public class GenericDispatchTree {
             return resultIndex + 1;
         }
         var nextArg = argTypes.get(0);
-        int[] index = new int[] {resultIndex};
-        children.forEach(child -> {
-            if (isSubclassOf(nextArg, child.clazz)) {
-                index[0] = child.collectApplicatableMethods(argTypes.drop(1), result, index[0]);
+        var rest = argTypes.drop(1);
+        var index = resultIndex;
+        for (int i = 0; i < children.size(); i++) {
+            var child = children.get(i);
+            if (nextArg.isSubclassOf(child.clazz)) {
+                index = child.collectApplicatableMethods(rest, result, index);
             }
-        });
-        return index[0];
+        }
+        return index;
     }
 
 }
@@ -3,14 +3,22 @@ package com.github.arvyy.islisp.runtime;
 import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.utilities.CyclicAssumption;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines generic function data: signature as well as registered method instances.
  */
 public class GenericFunctionDescriptor {
 
+    // memo is dropped entirely if it grows past this many argument class combinations
+    private static final int MAX_MEMO_SIZE = 4096;
+    private static final int HASH_MULTIPLIER = 31;
+
     private final int requiredArgCount;
     private final boolean hasRest;
     private final GenericDispatchTree primaryMethods;
@@ -19,7 +27,12 @@ public class GenericFunctionDescriptor {
     private final GenericDispatchTree afterMethods;
 
     private final CyclicAssumption assumption;
+    // whether current assumption might have been relied upon since it was created
+    private boolean assumptionInUse;
+    private int invalidationCount;
 
+    // argument classes -> effective methods, for combinations seen so far
+    private final Map<ClassTuple, GenericMethodApplicableMethods> applicableMethodsMemo;
 
     /**
      * Create function descriptor.
@@ -35,6 +48,7 @@ public class GenericFunctionDescriptor {
         this.aroundMethods = new GenericDispatchTree();
         this.afterMethods = new GenericDispatchTree();
         assumption = new CyclicAssumption("Generic method tree unchanged");
+        applicableMethodsMemo = new HashMap<>();
     }
 
     /**
@@ -55,9 +69,17 @@ public class GenericFunctionDescriptor {
      * @return assumption to be used that the tree hasn't been changed.
      */
     public Assumption getAssumption() {
+        assumptionInUse = true;
         return assumption.getAssumption();
     }
 
+    /**
+     * @return how many times method additions invalidated the assumption; meant for diagnostics.
+     */
+    public int getInvalidationCount() {
+        return invalidationCount;
+    }
+
     /**
      * Add primary method.
      *
@@ -68,7 +90,7 @@ public class GenericFunctionDescriptor {
     @CompilerDirectives.TruffleBoundary
     public void addPrimaryMethod(LispClass[] argTypes, CallTarget callTarget, Node node) {
         primaryMethods.addMethod(new ArraySlice<>(argTypes), callTarget, node);
-        assumption.invalidate("New method added");
+        methodAdded(argTypes);
     }
 
     /**
@@ -81,7 +103,7 @@ public class GenericFunctionDescriptor {
     @CompilerDirectives.TruffleBoundary
     public void addBeforeMethod(LispClass[] argTypes, CallTarget callTarget, Node node) {
         beforeMethods.addMethod(new ArraySlice<>(argTypes), callTarget, node);
-        assumption.invalidate("New method added");
+        methodAdded(argTypes);
     }
 
     /**
@@ -94,7 +116,7 @@ public class GenericFunctionDescriptor {
     @CompilerDirectives.TruffleBoundary
     public void addAroundMethod(LispClass[] argTypes, CallTarget callTarget, Node node) {
         aroundMethods.addMethod(new ArraySlice<>(argTypes), callTarget, node);
-        assumption.invalidate("New method added");
+        methodAdded(argTypes);
     }
 
     /**
@@ -107,31 +129,110 @@ public class GenericFunctionDescriptor {
     @CompilerDirectives.TruffleBoundary
     public void addAfterMethod(LispClass[] argTypes, CallTarget callTarget, Node node) {
         afterMethods.addMethod(new ArraySlice<>(argTypes), callTarget, node);
-        assumption.invalidate("New method added");
+        methodAdded(argTypes);
     }
 
     /**
      * Find applicable methods for given argument types.
+     * Results are memoized per argument class combination.
      *
      * @param argTypes parameter types used for dispatch
      * @return applicable methods set, sorted in necessary specificity order
      */
     @CompilerDirectives.TruffleBoundary
     public GenericMethodApplicableMethods getApplicableMethods(LispClass[] argTypes) {
+        var key = new ClassTuple(argTypes);
+        var applicableMethods = applicableMethodsMemo.get(key);
+        if (applicableMethods == null) {
+            applicableMethods = computeApplicableMethods(argTypes);
+            if (applicableMethodsMemo.size() >= MAX_MEMO_SIZE) {
+                for (var dropped: applicableMethodsMemo.values()) {
+                    dropped.methodsUnchanged().invalidate("Applicable methods memo dropped");
+                }
+                applicableMethodsMemo.clear();
+            }
+            // copy, since caller might reuse the array
+            applicableMethodsMemo.put(new ClassTuple(argTypes.clone()), applicableMethods);
+        }
+        return applicableMethods;
+    }
+
+    GenericMethodApplicableMethods computeApplicableMethods(LispClass[] argTypes) {
         // after methods need to have reverse specificity
         var after = afterMethods.getApplicableMethods(argTypes);
-        for (int i = 0; i < after.els().length / 2; i++) {
-            var ii = after.els().length - i - 1;
-            var tmp = after.els()[i];
-            after.els()[i] = after.els()[ii];
-            after.els()[ii] = tmp;
+        for (int i = 0; i < after.size() / 2; i++) {
+            var ii = after.size() - i - 1;
+            var tmp = after.get(i);
+            after.set(i, after.get(ii));
+            after.set(ii, tmp);
         }
         return new GenericMethodApplicableMethods(
                 primaryMethods.getApplicableMethods(argTypes),
                 aroundMethods.getApplicableMethods(argTypes),
                 beforeMethods.getApplicableMethods(argTypes),
-                after
+                after,
+                Truffle.getRuntime().createAssumption("Applicable methods unchanged")
         );
     }
 
+    // drop memoized results only for the argument combinations the new method applies to
+    void methodAdded(LispClass[] methodArgTypes) {
+        // caches holding dropped results let go of them through their assumption
+        applicableMethodsMemo.entrySet().removeIf(entry -> {
+            if (entry.getKey().isApplicable(methodArgTypes)) {
+                entry.getValue().methodsUnchanged().invalidate("New applicable method added");
+                return true;
+            }
+            return false;
+        });
+        // an assumption nobody has obtained yet can't have any dependents, so there is no need to replace it.
+        // This way a run of method definitions (eg. while loading a module) invalidates at most once
+        if (assumptionInUse) {
+            assumption.invalidate("New method added");
+            assumptionInUse = false;
+            invalidationCount++;
+        }
+    }
+
+    private static final class ClassTuple {
+        private final LispClass[] classes;
+        private final int hash;
+
+        ClassTuple(LispClass[] classes) {
+            this.classes = classes;
+            var h = 1;
+            for (var c: classes) {
+                h = HASH_MULTIPLIER * h + c.id();
+            }
+            hash = h;
+        }
+
+        boolean isApplicable(LispClass[] methodArgTypes) {
+            for (int i = 0; i < classes.length; i++) {
+                if (!classes[i].isSubclassOf(methodArgTypes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ClassTuple other) || other.hash != hash) {
+                return false;
+            }
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] != other.classes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
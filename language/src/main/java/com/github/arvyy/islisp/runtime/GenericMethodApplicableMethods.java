@@ -1,5 +1,6 @@
 package com.github.arvyy.islisp.runtime;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CallTarget;
 
 /**
@@ -9,11 +10,14 @@ import com.oracle.truffle.api.CallTarget;
  * @param aroundMethods
  * @param beforeMethods
  * @param afterMethods
+ * @param methodsUnchanged assumption invalidated once the set is no longer current,
+ *                         because a method applicable to the same arguments was added
  */
 public record GenericMethodApplicableMethods(
         ArraySlice<CallTarget> primaryMethods,
         ArraySlice<CallTarget> aroundMethods,
         ArraySlice<CallTarget> beforeMethods,
-        ArraySlice<CallTarget> afterMethods
+        ArraySlice<CallTarget> afterMethods,
+        Assumption methodsUnchanged
 ) {
 }
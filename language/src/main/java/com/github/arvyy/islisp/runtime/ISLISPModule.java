@@ -4,23 +4,36 @@ import com.github.arvyy.islisp.SetfTransformer;
 import com.oracle.truffle.api.CompilerDirectives;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Encapsulate module's bindings.
+ * Besides module's own definitions, each namespace keeps a table of already resolved
+ * lookups (own or imported), so that repeated lookups are a single hash probe.
+ * Misses aren't memoized, since any symbol ever looked up (eg. each form's head when checking for macros)
+ * would otherwise be retained.
+ * Resolved entries are dropped whenever the binding they depend on might have changed --
+ * on registration in this or an imported module, on new exports, and on new imports.
  */
 public class ISLISPModule {
 
     private final List<ISLISPModule> importedModules;
+    private final List<ISLISPModule> importingModules;
     private final Set<SymbolReference> exports;
-    private final Map<SymbolReference, LispFunction> globalFunctions;
-    private final Map<SymbolReference, GenericFunctionDescriptor> genericFunctions;
-    private final Map<SymbolReference, LispFunction> setfGlobalFunctions;
-    private final Map<SymbolReference, GenericFunctionDescriptor> setfGenericFunctions;
-    private final Map<SymbolReference, LispFunction> macros;
-    private final Map<SymbolReference, LispClass> classes;
-    private final Map<SymbolReference, ValueReference> dynamicVars;
-    private final Map<SymbolReference, ValueReference> globalVars;
-    private final Map<SymbolReference, SetfTransformer> setfTransformers;
+    private final Namespace<LispFunction> globalFunctions;
+    private final Namespace<GenericFunctionDescriptor> genericFunctions;
+    private final Namespace<LispFunction> setfGlobalFunctions;
+    private final Namespace<GenericFunctionDescriptor> setfGenericFunctions;
+    private final Namespace<LispFunction> macros;
+    private final Namespace<LispClass> classes;
+    private final Namespace<ValueReference> dynamicVars;
+    private final Namespace<ValueReference> globalVars;
+    private final Namespace<SetfTransformer> setfTransformers;
+    private final List<Namespace<?>> namespaces;
+
+    private Runnable deferredLoader;
+    private boolean loading;
+    private RuntimeException loadFailure;
 
     /**
      * Create empty module.
@@ -28,15 +41,19 @@ public class ISLISPModule {
     public ISLISPModule() {
         exports = new HashSet<>();
         importedModules = new ArrayList<>();
-        globalFunctions = new HashMap<>();
-        genericFunctions = new HashMap<>();
-        setfGlobalFunctions = new HashMap<>();
-        setfGenericFunctions = new HashMap<>();
-        dynamicVars = new HashMap<>();
-        macros = new HashMap<>();
-        classes = new HashMap<>();
-        setfTransformers = new HashMap<>();
-        globalVars = new HashMap<>();
+        importingModules = new ArrayList<>();
+        globalFunctions = new Namespace<>();
+        genericFunctions = new Namespace<>();
+        setfGlobalFunctions = new Namespace<>();
+        setfGenericFunctions = new Namespace<>();
+        dynamicVars = new Namespace<>();
+        macros = new Namespace<>();
+        classes = new Namespace<>();
+        setfTransformers = new Namespace<>();
+        globalVars = new Namespace<>();
+        namespaces = List.of(
+            globalFunctions, genericFunctions, setfGlobalFunctions, setfGenericFunctions,
+            dynamicVars, macros, classes, setfTransformers, globalVars);
     }
 
     /**
@@ -46,6 +63,10 @@ public class ISLISPModule {
      */
     public void addImport(ISLISPModule m) {
         importedModules.add(m);
+        m.importingModules.add(this);
+        for (var namespace: namespaces) {
+            namespace.resolved.clear();
+        }
     }
 
     /**
@@ -55,21 +76,68 @@ public class ISLISPModule {
      */
     public void addExport(SymbolReference symbolReference) {
         exports.add(symbolReference);
+        for (var importer: importingModules) {
+            for (var namespace: importer.namespaces) {
+                namespace.resolved.remove(symbolReference);
+            }
+        }
+    }
+
+    /**
+     * Mark the module as not yet loaded. The given loader is run the first time an importing module
+     * looks up one of this module's exported functions or classes.
+     *
+     * @param loader callback populating module's bindings.
+     */
+    public void setDeferredLoader(Runnable loader) {
+        deferredLoader = loader;
+    }
+
+    /**
+     * @return true if module's content still hasn't been loaded.
+     */
+    public boolean isDeferred() {
+        return deferredLoader != null;
+    }
+
+    /**
+     * Run deferred loader, if module's loading was deferred and hasn't happened yet.
+     * Lookups made while the loader runs don't rerun it. If loading fails, the module stays deferred,
+     * and the same failure is rethrown on every later attempt to load it, since its top level forms
+     * might have been partially executed.
+     */
+    @CompilerDirectives.TruffleBoundary
+    public void ensureLoaded() {
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+        if (deferredLoader == null || loading) {
+            return;
+        }
+        loading = true;
+        try {
+            deferredLoader.run();
+            deferredLoader = null;
+        } catch (RuntimeException e) {
+            loadFailure = e;
+            throw e;
+        } finally {
+            loading = false;
+        }
     }
 
     /**
      * Add all bindings to exported set.
      */
     public void exportAll() {
-        exports.addAll(globalFunctions.keySet());
-        exports.addAll(genericFunctions.keySet());
-        exports.addAll(setfGlobalFunctions.keySet());
-        exports.addAll(setfGenericFunctions.keySet());
-        exports.addAll(dynamicVars.keySet());
-        exports.addAll(macros.keySet());
-        exports.addAll(classes.keySet());
-        exports.addAll(setfTransformers.keySet());
-        exports.addAll(globalVars.keySet());
+        for (var namespace: namespaces) {
+            exports.addAll(namespace.local.keySet());
+        }
+        for (var importer: importingModules) {
+            for (var namespace: importer.namespaces) {
+                namespace.resolved.clear();
+            }
+        }
     }
 
     /**
@@ -84,7 +152,7 @@ public class ISLISPModule {
         var v = new ValueReference();
         v.setValue(init);
         v.setReadOnly(readonly);
-        globalVars.put(symbolReference, v);
+        define(m -> m.globalVars, symbolReference, v);
     }
 
     /**
@@ -95,15 +163,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public ValueReference lookupGlobalVar(SymbolReference symbolReference) {
-        if (globalVars.containsKey(symbolReference)) {
-            return globalVars.get(symbolReference);
-        }
-        for (var module: importedModules) {
-            if (module.globalVars.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                return module.globalVars.get(symbolReference);
-            }
-        }
-        return null;
+        return resolve(m -> m.globalVars, symbolReference, false);
     }
 
     /**
@@ -115,7 +175,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerSetfTransformer(SymbolReference symbolReference, SetfTransformer transformer) {
-        setfTransformers.put(symbolReference, transformer);
+        define(m -> m.setfTransformers, symbolReference, transformer);
     }
 
     /**
@@ -126,15 +186,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public SetfTransformer lookupSetfTransformer(SymbolReference symbolReference) {
-        if (setfTransformers.containsKey(symbolReference)) {
-            return setfTransformers.get(symbolReference);
-        }
-        for (var module: importedModules) {
-            if (module.setfTransformers.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                return module.setfTransformers.get(symbolReference);
-            }
-        }
-        return null;
+        return resolve(m -> m.setfTransformers, symbolReference, false);
     }
 
     /**
@@ -145,7 +197,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerDynamicVar(SymbolReference symbolReference, ValueReference v) {
-        dynamicVars.put(symbolReference, v);
+        define(m -> m.dynamicVars, symbolReference, v);
     }
 
     /**
@@ -156,15 +208,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public ValueReference lookupDynamicVar(SymbolReference symbolReference) {
-        if (dynamicVars.containsKey(symbolReference)) {
-            return dynamicVars.get(symbolReference);
-        }
-        for (var module: importedModules) {
-            if (module.dynamicVars.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                return module.dynamicVars.get(symbolReference);
-            }
-        }
-        return null;
+        return resolve(m -> m.dynamicVars, symbolReference, false);
     }
 
     /**
@@ -175,7 +219,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerFunction(SymbolReference symbolReference, LispFunction function) {
-        globalFunctions.put(symbolReference, function);
+        define(m -> m.globalFunctions, symbolReference, function);
     }
 
     /**
@@ -199,27 +243,9 @@ public class ISLISPModule {
     @CompilerDirectives.TruffleBoundary
     public LispFunction lookupFunction(SymbolReference symbolReference, boolean setf) {
         if (setf) {
-            if (setfGlobalFunctions.containsKey(symbolReference)) {
-                return setfGlobalFunctions.get(symbolReference);
-            }
-            for (var module: importedModules) {
-                if (module.setfGlobalFunctions.containsKey(symbolReference)
-                    && module.exports.contains(symbolReference)
-                ) {
-                    return module.setfGlobalFunctions.get(symbolReference);
-                }
-            }
-            return null;
+            return resolve(m -> m.setfGlobalFunctions, symbolReference, true);
         } else {
-            if (globalFunctions.containsKey(symbolReference)) {
-                return globalFunctions.get(symbolReference);
-            }
-            for (var module: importedModules) {
-                if (module.globalFunctions.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                    return module.globalFunctions.get(symbolReference);
-                }
-            }
-            return null;
+            return resolve(m -> m.globalFunctions, symbolReference, true);
         }
     }
 
@@ -239,11 +265,11 @@ public class ISLISPModule {
         GenericFunctionDescriptor descriptor
     ) {
         if (setf) {
-            setfGlobalFunctions.put(symbolReference, function);
-            setfGenericFunctions.put(symbolReference, descriptor);
+            define(m -> m.setfGlobalFunctions, symbolReference, function);
+            define(m -> m.setfGenericFunctions, symbolReference, descriptor);
         } else {
-            globalFunctions.put(symbolReference, function);
-            genericFunctions.put(symbolReference, descriptor);
+            define(m -> m.globalFunctions, symbolReference, function);
+            define(m -> m.genericFunctions, symbolReference, descriptor);
         }
     }
 
@@ -257,27 +283,10 @@ public class ISLISPModule {
     @CompilerDirectives.TruffleBoundary
     public GenericFunctionDescriptor lookupGenericFunctionDispatchTree(SymbolReference symbolReference, boolean setf) {
         if (setf) {
-            if (setfGenericFunctions.containsKey(symbolReference)) {
-                return setfGenericFunctions.get(symbolReference);
-            }
-            for (var module: importedModules) {
-                if (module.setfGenericFunctions.containsKey(symbolReference)
-                    && module.exports.contains(symbolReference)
-                ) {
-                    return module.setfGenericFunctions.get(symbolReference);
-                }
-            }
+            return resolve(m -> m.setfGenericFunctions, symbolReference, true);
         } else {
-            if (genericFunctions.containsKey(symbolReference)) {
-                return genericFunctions.get(symbolReference);
-            }
-            for (var module: importedModules) {
-                if (module.genericFunctions.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                    return module.genericFunctions.get(symbolReference);
-                }
-            }
+            return resolve(m -> m.genericFunctions, symbolReference, true);
         }
-        return null;
     }
 
     /**
@@ -288,7 +297,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerMacro(SymbolReference symbolReference, LispFunction function) {
-        macros.put(symbolReference, function);
+        define(m -> m.macros, symbolReference, function);
     }
 
     /**
@@ -299,15 +308,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public LispFunction lookupMacro(SymbolReference symbolReference) {
-        if (macros.containsKey(symbolReference)) {
-            return macros.get(symbolReference);
-        }
-        for (var module: importedModules) {
-            if (module.macros.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                return module.macros.get(symbolReference);
-            }
-        }
-        return null;
+        return resolve(m -> m.macros, symbolReference, false);
     }
 
     /**
@@ -318,7 +319,7 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public void registerClass(SymbolReference symbolReference, LispClass clazz) {
-        classes.put(symbolReference, clazz);
+        define(m -> m.classes, symbolReference, clazz);
     }
 
     /**
@@ -329,15 +330,62 @@ public class ISLISPModule {
      */
     @CompilerDirectives.TruffleBoundary
     public LispClass lookupClass(SymbolReference symbolReference) {
-        if (classes.containsKey(symbolReference)) {
-            return classes.get(symbolReference);
+        return resolve(m -> m.classes, symbolReference, true);
+    }
+
+    private <T> void define(Function<ISLISPModule, Namespace<T>> namespace, SymbolReference symbolReference, T value) {
+        var own = namespace.apply(this);
+        own.local.put(symbolReference, value);
+        own.resolved.remove(symbolReference);
+        for (var importer: importingModules) {
+            namespace.apply(importer).resolved.remove(symbolReference);
         }
-        for (var module: importedModules) {
-            if (module.classes.containsKey(symbolReference) && module.exports.contains(symbolReference)) {
-                return module.classes.get(symbolReference);
+    }
+
+    private <T> T resolve(
+        Function<ISLISPModule, Namespace<T>> namespace,
+        SymbolReference symbolReference,
+        boolean loadDeferred
+    ) {
+        var own = namespace.apply(this);
+        var value = own.resolved.get(symbolReference);
+        if (value != null) {
+            return value;
+        }
+        value = own.local.get(symbolReference);
+        if (value == null) {
+            for (var module: importedModules) {
+                if (loadDeferred) {
+                    ensureLoadedIfExported(module, symbolReference);
+                }
+                var imported = namespace.apply(module).local.get(symbolReference);
+                if (imported != null && module.exports.contains(symbolReference)) {
+                    value = imported;
+                    break;
+                }
             }
         }
-        return null;
+        if (value != null) {
+            own.resolved.put(symbolReference, value);
+        }
+        return value;
+    }
+
+    private static void ensureLoadedIfExported(ISLISPModule module, SymbolReference symbolReference) {
+        if (module.deferredLoader != null && module.exports.contains(symbolReference)) {
+            module.ensureLoaded();
+        }
+    }
+
+    /**
+     * Bindings of a single namespace: module's own definitions and
+     * memoized results of lookups against this module.
+     *
+     * @param <T> binding value type
+     */
+    private static final class Namespace<T> {
+        private final Map<SymbolReference, T> local = new HashMap<>();
+        private final Map<SymbolReference, T> resolved = new HashMap<>();
     }
 
 }
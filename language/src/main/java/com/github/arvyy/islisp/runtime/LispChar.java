@@ -1,5 +1,6 @@
 package com.github.arvyy.islisp.runtime;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.interop.TruffleObject;
 
 /**
@@ -8,4 +9,32 @@ import com.oracle.truffle.api.interop.TruffleObject;
  * @param codepoint
  */
 public record LispChar(int codepoint) implements TruffleObject {
+
+    private static final int CACHE_SIZE = 0x100;
+
+    @CompilerDirectives.CompilationFinal(dimensions = 1)
+    private static final LispChar[] CACHE = createCache();
+
+    private static LispChar[] createCache() {
+        var cache = new LispChar[CACHE_SIZE];
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cache[i] = new LispChar(i);
+        }
+        return cache;
+    }
+
+    /**
+     * Get character for a given codepoint. Characters in latin-1 range are shared instances,
+     * other characters are allocated anew.
+     *
+     * @param codepoint character's codepoint
+     * @return character
+     */
+    public static LispChar valueOf(int codepoint) {
+        if (codepoint >= 0 && codepoint < CACHE_SIZE) {
+            return CACHE[codepoint];
+        }
+        return new LispChar(codepoint);
+    }
+
 }
@@ -13,6 +13,28 @@ public sealed interface LispClass permits StandardClass, BuiltinClass {
      */
     List<LispClass> getParents();
 
+    /**
+     *
+     * @return unique id of this class within the context
+     */
+    int id();
+
+    /**
+     *
+     * @return ids of this class and all its superclasses
+     */
+    SuperclassSet superclasses();
+
+    /**
+     * Check if this class is the same as or a subclass of other class.
+     *
+     * @param other potential superclass
+     * @return true if this class is a subclass of other
+     */
+    default boolean isSubclassOf(LispClass other) {
+        return superclasses().contains(other.id());
+    }
+
     /**
      *
      * @return if this class is abstract and cannot be instantiated directly
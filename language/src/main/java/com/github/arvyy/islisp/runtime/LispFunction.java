@@ -29,7 +29,7 @@ public record LispFunction(Closure closure, RootCallTarget callTarget, boolean i
      * @param callTarget call target
      */
     public LispFunction(RootCallTarget callTarget) {
-        this(new Closure(null, null, null), callTarget, false);
+        this(new Closure(null, null, null, null), callTarget, false);
     }
 
     /**
@@ -38,7 +38,7 @@ public record LispFunction(Closure closure, RootCallTarget callTarget, boolean i
      * @param callTarget call target
      */
     public LispFunction(MaterializedFrame frame, RootCallTarget callTarget) {
-        this(new Closure(frame, null, null), callTarget, false);
+        this(new Closure(frame, null, null, null), callTarget, false);
     }
 
     /**
@@ -49,7 +49,7 @@ public record LispFunction(Closure closure, RootCallTarget callTarget, boolean i
      * @param callTarget call target
      */
     public LispFunction(GenericMethodApplicableMethods nextMethods, Object[] args, RootCallTarget callTarget) {
-        this(new Closure(null, nextMethods, args), callTarget, true);
+        this(new Closure(null, nextMethods, args, null), callTarget, true);
     }
 
     /**
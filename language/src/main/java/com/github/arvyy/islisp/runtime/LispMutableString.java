@@ -1,10 +1,237 @@
 package com.github.arvyy.islisp.runtime;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.interop.TruffleObject;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * Represents a mutable islisp string.
- * @param chars string content.
+ * Content is stored compactly as latin-1 bytes while all characters fit,
+ * and is widened to an array of codepoints the first time a character outside latin-1 is stored.
  */
-public record LispMutableString(LispChar[] chars) implements TruffleObject {
+public final class LispMutableString implements TruffleObject {
+
+    private static final int LATIN1_MAX = 0xFF;
+
+    private byte[] latin1;
+    private int[] codepoints;
+
+    private LispMutableString(byte[] latin1, int[] codepoints) {
+        this.latin1 = latin1;
+        this.codepoints = codepoints;
+    }
+
+    /**
+     * Create string of given length, filled with given character.
+     *
+     * @param length string length
+     * @param codepoint fill character's codepoint
+     * @return new string
+     */
+    @CompilerDirectives.TruffleBoundary
+    public static LispMutableString filled(int length, int codepoint) {
+        if (isLatin1(codepoint)) {
+            var bytes = new byte[length];
+            Arrays.fill(bytes, (byte) codepoint);
+            return new LispMutableString(bytes, null);
+        }
+        var ints = new int[length];
+        Arrays.fill(ints, codepoint);
+        return new LispMutableString(null, ints);
+    }
+
+    /**
+     * Create string with the same content as a given java string.
+     *
+     * @param str java string
+     * @return new string
+     */
+    @CompilerDirectives.TruffleBoundary
+    public static LispMutableString fromString(String str) {
+        var ints = str.codePoints().toArray();
+        for (var c: ints) {
+            if (!isLatin1(c)) {
+                return new LispMutableString(null, ints);
+            }
+        }
+        var bytes = new byte[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            bytes[i] = (byte) ints[i];
+        }
+        return new LispMutableString(bytes, null);
+    }
+
+    /**
+     * Create string by concatenating given strings.
+     *
+     * @param parts array, whose elements from given index onward are java strings or mutable strings
+     * @param start index of the first string in parts
+     * @return new string
+     */
+    @CompilerDirectives.TruffleBoundary
+    public static LispMutableString concat(Object[] parts, int start) {
+        int length = 0;
+        boolean allLatin1 = true;
+        for (int i = start; i < parts.length; i++) {
+            if (parts[i] instanceof LispMutableString str) {
+                length += str.length();
+                allLatin1 = allLatin1 && str.isAllLatin1();
+            } else {
+                var str = (String) parts[i];
+                length += str.codePointCount(0, str.length());
+                allLatin1 = allLatin1 && str.chars().allMatch(LispMutableString::isLatin1);
+            }
+        }
+        if (allLatin1) {
+            var bytes = new byte[length];
+            int offset = 0;
+            for (int i = start; i < parts.length; i++) {
+                if (parts[i] instanceof LispMutableString str && str.latin1 != null) {
+                    System.arraycopy(str.latin1, 0, bytes, offset, str.latin1.length);
+                    offset += str.latin1.length;
+                } else {
+                    var partBytes = parts[i].toString().getBytes(StandardCharsets.ISO_8859_1);
+                    System.arraycopy(partBytes, 0, bytes, offset, partBytes.length);
+                    offset += partBytes.length;
+                }
+            }
+            return new LispMutableString(bytes, null);
+        }
+        var ints = new int[length];
+        int offset = 0;
+        for (int i = start; i < parts.length; i++) {
+            if (parts[i] instanceof LispMutableString str && str.codepoints != null) {
+                System.arraycopy(str.codepoints, 0, ints, offset, str.codepoints.length);
+                offset += str.codepoints.length;
+            } else {
+                var partInts = parts[i].toString().codePoints().toArray();
+                System.arraycopy(partInts, 0, ints, offset, partInts.length);
+                offset += partInts.length;
+            }
+        }
+        return new LispMutableString(null, ints);
+    }
+
+    /**
+     * @return count of characters in the string
+     */
+    public int length() {
+        return latin1 != null ? latin1.length : codepoints.length;
+    }
+
+    /**
+     * Get character at given index; index must be in range.
+     *
+     * @param index character index
+     * @return character's codepoint
+     */
+    public int codepointAt(int index) {
+        if (latin1 != null) {
+            return Byte.toUnsignedInt(latin1[index]);
+        }
+        return codepoints[index];
+    }
+
+    /**
+     * Set character at given index; index must be in range.
+     *
+     * @param index character index
+     * @param codepoint new character's codepoint
+     */
+    public void setCodepointAt(int index, int codepoint) {
+        if (latin1 != null) {
+            if (isLatin1(codepoint)) {
+                latin1[index] = (byte) codepoint;
+                return;
+            }
+            widen();
+        }
+        codepoints[index] = codepoint;
+    }
+
+    @CompilerDirectives.TruffleBoundary
+    private void widen() {
+        var ints = new int[latin1.length];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = Byte.toUnsignedInt(latin1[i]);
+        }
+        codepoints = ints;
+        latin1 = null;
+    }
+
+    /**
+     * Compare content to another mutable string.
+     *
+     * @param other other string
+     * @return true if both strings consist of the same characters
+     */
+    @CompilerDirectives.TruffleBoundary
+    public boolean contentEquals(LispMutableString other) {
+        if (latin1 != null && other.latin1 != null) {
+            return Arrays.equals(latin1, other.latin1);
+        }
+        if (codepoints != null && other.codepoints != null) {
+            return Arrays.equals(codepoints, other.codepoints);
+        }
+        // latin-1 and widened string can still be equal if widened one has no characters outside latin-1
+        if (length() != other.length()) {
+            return false;
+        }
+        for (int i = 0; i < length(); i++) {
+            if (codepointAt(i) != other.codepointAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare content to a java string.
+     *
+     * @param str java string
+     * @return true if string consists of the same characters
+     */
+    @CompilerDirectives.TruffleBoundary
+    public boolean contentEquals(String str) {
+        int length = length();
+        int i = 0;
+        int offset = 0;
+        while (i < length && offset < str.length()) {
+            var c = str.codePointAt(offset);
+            if (c != codepointAt(i)) {
+                return false;
+            }
+            offset += Character.charCount(c);
+            i++;
+        }
+        return i == length && offset == str.length();
+    }
+
+    @Override
+    @CompilerDirectives.TruffleBoundary
+    public String toString() {
+        if (latin1 != null) {
+            return new String(latin1, StandardCharsets.ISO_8859_1);
+        }
+        return new String(codepoints, 0, codepoints.length);
+    }
+
+    private boolean isAllLatin1() {
+        if (latin1 != null) {
+            return true;
+        }
+        for (var c: codepoints) {
+            if (!isLatin1(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLatin1(int codepoint) {
+        return codepoint >= 0 && codepoint <= LATIN1_MAX;
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.github.arvyy.islisp.runtime;
 
+import com.github.arvyy.islisp.parser.Reader;
 import com.oracle.truffle.api.interop.TruffleObject;
 
 import java.io.ByteArrayOutputStream;
@@ -29,6 +30,7 @@ public class LispStream implements TruffleObject, AutoCloseable {
     private int markedBufferPos;
     private int bufferPos;
     private boolean closed = false;
+    private Reader reader;
 
 
     /**
@@ -81,44 +83,42 @@ public class LispStream implements TruffleObject, AutoCloseable {
 // checkstyle goes crazy about magic numbers..
 //CHECKSTYLE:OFF
     public int readCodepoint() throws IOException {
-        int firstUnsigned = readByte();
-        if (firstUnsigned == -1) {
+        int first = readByte();
+        if (first == -1) {
             return -1;
         }
-        byte first = (byte) firstUnsigned;
-        if (((first >>> 3) & 0b11110) == 0b11110) {
-            var bytes = readRemainingBytes(new byte[]{first, 0, 0, 0}, 4);
-            if (bytes == null) return -1;
-            return new String(bytes, StandardCharsets.UTF_8).codePointAt(0);
+        if ((first & 0x80) == 0) {
+            return first;
         }
-        if (((first >>> 4) & 0b1110) == 0b1110) {
-            var bytes = readRemainingBytes(new byte[]{first, 0, 0, 0}, 3);
-            if (bytes == null) return -1;
-            return new String(bytes, StandardCharsets.UTF_8).codePointAt(0);
-        }
-        if (((first >>> 5) & 0b110) == 0b110) {
-            var bytes = readRemainingBytes(new byte[]{first, 0, 0, 0}, 2);
-            if (bytes == null) return -1;
-            return new String(bytes, StandardCharsets.UTF_8).codePointAt(0);
-        }
-        if (((first >>> 7)) == 0) {
-            var bytes = new byte[]{first};
-            return new String(bytes, StandardCharsets.UTF_8).codePointAt(0);
+        int length;
+        int codepoint;
+        if ((first & 0xE0) == 0xC0) {
+            length = 2;
+            codepoint = first & 0x1F;
+        } else if ((first & 0xF0) == 0xE0) {
+            length = 3;
+            codepoint = first & 0x0F;
+        } else if ((first & 0xF8) == 0xF0) {
+            length = 4;
+            codepoint = first & 0x07;
+        } else {
+            throw new IOException(String.format("Invalid UTF-8 lead byte 0x%02X", first));
         }
-        throw new IOException(); // TODO
-    }
-//CHECKSTYLE:ON
-
-    byte[] readRemainingBytes(byte[] array, int n) throws IOException {
-        for (var i = 1; i < n; i++) {
-            var b = readByte();
+        for (var i = 1; i < length; i++) {
+            var b = peekByte();
             if (b == -1) {
-                return null;
+                return -1;
+            }
+            if ((b & 0xC0) != 0x80) {
+                // leave the offending byte unread, it might start a valid character
+                return 0xFFFD;
             }
-            array[i] = (byte) b;
+            bufferPos++;
+            codepoint = (codepoint << 6) | (b & 0x3F);
         }
-        return array;
+        return codepoint;
     }
+//CHECKSTYLE:ON
 
     /**
      * @return next byte in inputstream, or -1 if EOF. Byte value is represented as an unsigned int.
@@ -134,6 +134,14 @@ public class LispStream implements TruffleObject, AutoCloseable {
         return Byte.toUnsignedInt(b);
     }
 
+    private int peekByte() throws IOException {
+        ensureBuffer();
+        if (bufferLength == 0) {
+            return -1;
+        }
+        return Byte.toUnsignedInt(buffer[bufferPos]);
+    }
+
     /**
      * Mark current position, which can be reset with `reset`.
      * @param size size in bytes to ensure in buffer.
@@ -192,6 +200,20 @@ public class LispStream implements TruffleObject, AutoCloseable {
         }
     }
 
+    /**
+     * Reader bound to this stream, kept between `read` calls so that lexer state and buffers are reused.
+     * Reader doesn't consume input past the datum it returns, so it can be freely interleaved
+     * with other read operations on the stream.
+     *
+     * @return sexpr reader over this stream.
+     */
+    public Reader getReader() {
+        if (reader == null) {
+            reader = new Reader(this);
+        }
+        return reader;
+    }
+
     /**
      * Write codepoint to output stream using UTF-8.
      * @param i codepoint to write.
@@ -338,6 +360,7 @@ public class LispStream implements TruffleObject, AutoCloseable {
      * @throws IOException
      */
     public void setFilePosition(long position) throws IOException {
+        reader = null;
         bufferPos = 0;
         bufferLength = 0;
         markedBufferPos = -1;
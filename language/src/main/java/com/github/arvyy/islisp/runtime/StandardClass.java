@@ -1,7 +1,6 @@
 package com.github.arvyy.islisp.runtime;
 
 import com.oracle.truffle.api.interop.TruffleObject;
-import com.oracle.truffle.api.staticobject.DefaultStaticObjectFactory;
 import com.oracle.truffle.api.staticobject.StaticProperty;
 import com.oracle.truffle.api.staticobject.StaticShape;
 
@@ -10,16 +9,20 @@ import java.util.List;
 /**
  * Represents class created through defclass.
  *
+ * @param id unique class id
  * @param name class name
  * @param parents parent classes
+ * @param superclasses ids of this class and all its superclasses
  * @param shape truffle shape to create instances from
  * @param slots defclass slots
  * @param isAbstract abstract flag
  */
 public record StandardClass(
+        int id,
         String name,
         LispClass[] parents,
-        StaticShape<DefaultStaticObjectFactory> shape,
+        SuperclassSet superclasses,
+        StaticShape<StandardClassObject.Factory> shape,
         Slot[] slots,
         boolean isAbstract
 ) implements LispClass, TruffleObject {
@@ -28,16 +31,151 @@ public record StandardClass(
      * Standard class' slot information.
      *
      * @param name slot name
+     * @param type declared slot type, determining how the value is stored
      * @param property associated truffle property for manipulation
+     * @param boundProperty boolean property tracking if a primitively stored slot is bound;
+     *                      null for slots of OBJECT type, which are unbound when holding null
+     * @param boxedProperty object property holding INTEGER slot's value when it doesn't fit into an int
+     *                      (ie., is a bignum), or null when the primitive property holds the value;
+     *                      null for slots of other types
      * @param initForm initialization form
      * @param initArg initialization argument
      */
     public record Slot(
             SymbolReference name,
+            SlotType type,
             StaticProperty property,
+            StaticProperty boundProperty,
+            StaticProperty boxedProperty,
             LispFunction initForm,
             SymbolReference initArg
-    ) { }
+    ) {
+
+        /**
+         * Read slot's value.
+         *
+         * @param obj instance of the slot's class
+         * @return slot value or null if slot is unbound
+         */
+        public Object read(StandardClassObject obj) {
+            if (type == SlotType.OBJECT) {
+                return property.getObject(obj);
+            }
+            if (!boundProperty.getBoolean(obj)) {
+                return null;
+            }
+            if (type == SlotType.INTEGER) {
+                var boxed = boxedProperty.getObject(obj);
+                if (boxed != null) {
+                    return boxed;
+                }
+                return property.getInt(obj);
+            }
+            if (type == SlotType.FLOAT) {
+                return property.getDouble(obj);
+            }
+            return LispChar.valueOf(property.getInt(obj));
+        }
+
+        /**
+         * Write slot's value, if it is of the slot's declared type.
+         *
+         * @param obj instance of the slot's class
+         * @param value new value
+         * @return true if value was written; false if it doesn't match slot's type
+         */
+        public boolean write(StandardClassObject obj, Object value) {
+            if (type == SlotType.OBJECT) {
+                property.setObject(obj, value);
+                return true;
+            }
+            if (type == SlotType.INTEGER && value instanceof Integer i) {
+                property.setInt(obj, i);
+                boxedProperty.setObject(obj, null);
+            } else if (type == SlotType.INTEGER && value instanceof LispBigInteger) {
+                boxedProperty.setObject(obj, value);
+            } else if (type == SlotType.FLOAT && value instanceof Double d) {
+                property.setDouble(obj, d);
+            } else if (type == SlotType.CHARACTER && value instanceof LispChar c) {
+                property.setInt(obj, c.codepoint());
+            } else {
+                return false;
+            }
+            boundProperty.setBoolean(obj, true);
+            return true;
+        }
+
+        /**
+         * @param obj instance of the slot's class
+         * @return if slot has a value
+         */
+        public boolean isBound(StandardClassObject obj) {
+            if (type == SlotType.OBJECT) {
+                return property.getObject(obj) != null;
+            }
+            return boundProperty.getBoolean(obj);
+        }
+    }
+
+    /**
+     * Slot type declared through :type slot option. Slots of other than OBJECT type
+     * are stored as primitives and only accept values of their type.
+     */
+    public enum SlotType {
+        /**
+         * Any value, stored as a reference.
+         */
+        OBJECT("<object>", Object.class),
+        /**
+         * Fixnum integer, stored as int.
+         */
+        INTEGER("<integer>", int.class),
+        /**
+         * Float, stored as double.
+         */
+        FLOAT("<float>", double.class),
+        /**
+         * Character, stored as int codepoint.
+         */
+        CHARACTER("<character>", int.class);
+
+        private final String className;
+        private final Class<?> storageType;
+
+        SlotType(String className, Class<?> storageType) {
+            this.className = className;
+            this.storageType = storageType;
+        }
+
+        /**
+         * @return name of the corresponding lisp class
+         */
+        public String className() {
+            return className;
+        }
+
+        /**
+         * @return java type used for the slot's static property
+         */
+        public Class<?> storageType() {
+            return storageType;
+        }
+
+        /**
+         * Find slot type by its lisp class name.
+         *
+         * @param className class name
+         * @return slot type or null if type can't be declared for a slot
+         */
+        public static SlotType fromClassName(String className) {
+            for (var type: values()) {
+                if (type.className.equals(className)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
 
     @Override
     public List<LispClass> getParents() {
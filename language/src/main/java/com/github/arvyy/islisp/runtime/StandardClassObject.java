@@ -4,7 +4,41 @@ import com.oracle.truffle.api.interop.TruffleObject;
 
 /**
  * Represents instances of a standard class.
- * @param clazz object's class
- * @param data object's data (created through truffle shape factory)
+ * Serves as the base class for static objects generated by class' truffle shape,
+ * so that slots are stored in the instance itself and are accessed through the shape's properties.
  */
-public record StandardClassObject(StandardClass clazz, Object data) implements TruffleObject  { }
+public class StandardClassObject implements TruffleObject {
+
+    private final StandardClass clazz;
+
+    /**
+     * Create standard class object; meant to be called only through shape's factory.
+     *
+     * @param clazz object's class
+     */
+    public StandardClassObject(StandardClass clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * @return object's class
+     */
+    public StandardClass clazz() {
+        return clazz;
+    }
+
+    /**
+     * Factory for creating instances through truffle shape.
+     */
+    public interface Factory {
+
+        /**
+         * Create new instance with all slots unbound.
+         *
+         * @param clazz object's class
+         * @return new instance
+         */
+        StandardClassObject create(StandardClass clazz);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.github.arvyy.islisp.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+
+import java.util.List;
+
+/**
+ * Set of ids of a class and all its (transitive) superclasses, stored as a bitset.
+ * Computed once upon class creation, so that subclass checks take constant time.
+ */
+public final class SuperclassSet {
+
+    private static final int WORD_BITS = 6;
+
+    @CompilerDirectives.CompilationFinal(dimensions = 1)
+    private final long[] bits;
+
+    /**
+     * Create superclass set.
+     *
+     * @param classId id of the class itself
+     * @param parents direct superclasses
+     */
+    public SuperclassSet(int classId, List<LispClass> parents) {
+        var size = (classId >> WORD_BITS) + 1;
+        for (var parent: parents) {
+            size = Math.max(size, parent.superclasses().bits.length);
+        }
+        bits = new long[size];
+        bits[classId >> WORD_BITS] |= 1L << classId;
+        for (var parent: parents) {
+            var parentBits = parent.superclasses().bits;
+            for (int i = 0; i < parentBits.length; i++) {
+                bits[i] |= parentBits[i];
+            }
+        }
+    }
+
+    /**
+     * @param classId class id
+     * @return if given class is a member of this set
+     */
+    public boolean contains(int classId) {
+        var word = classId >> WORD_BITS;
+        return word < bits.length && (bits[word] & (1L << classId)) != 0;
+    }
+
+}
@@ -11,4 +11,29 @@ import com.oracle.truffle.api.interop.TruffleObject;
 public record Symbol(
         String name,
         SymbolReference identityReference
-) implements TruffleObject { }
+) implements TruffleObject {
+
+    /**
+     * The `nil` symbol, shared by all contexts.
+     */
+    public static final Symbol NIL = createCanonical("nil");
+
+    /**
+     * The `t` symbol, shared by all contexts.
+     */
+    public static final Symbol T = createCanonical("t");
+
+    /**
+     * Create a new named symbol with fresh identity, and mark it as its reference's canonical instance.
+     *
+     * @param name symbol name
+     * @return new symbol
+     */
+    static Symbol createCanonical(String name) {
+        var reference = new SymbolReference();
+        var symbol = new Symbol(name, reference);
+        reference.setCanonicalSymbol(symbol);
+        return symbol;
+    }
+
+}
@@ -1,20 +1,32 @@
 package com.github.arvyy.islisp.runtime;
 
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Shape;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Class for reference identifaction of symbols (since symbols can be unnamed, it's not enough to use string)
  * custom class instead of plain int for static typing reasons.
+ * Also holds symbol's properties, keyed by property name's reference; symbols having same property names share
+ * shape. Properties of `nil` and `t`, whose references are shared between contexts, are held by the context instead.
  */
-public class SymbolReference {
+public class SymbolReference extends DynamicObject {
+
+    private static final AtomicInteger LAST = new AtomicInteger();
 
-    private static int last = 0;
+    private static final Shape ROOT_SHAPE = Shape.newBuilder().build();
 
     private final int id;
 
+    private Symbol canonicalSymbol;
+
     /**
      * Create symbol reference with new unique id.
      */
     public SymbolReference() {
-        id = last++;
+        super(ROOT_SHAPE);
+        id = LAST.getAndIncrement();
     }
 
     /**
@@ -24,4 +36,15 @@ public class SymbolReference {
     public int getId() {
         return id;
     }
+
+    /**
+     * @return canonical symbol instance for this reference, or null if reference wasn't interned.
+     */
+    public Symbol getCanonicalSymbol() {
+        return canonicalSymbol;
+    }
+
+    void setCanonicalSymbol(Symbol symbol) {
+        canonicalSymbol = symbol;
+    }
 }
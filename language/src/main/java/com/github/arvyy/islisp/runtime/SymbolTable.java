@@ -0,0 +1,90 @@
+package com.github.arvyy.islisp.runtime;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Intern table of named symbols. Returns a single canonical symbol instance per name.
+ * Entries are held weakly, so that a symbol which is no longer referenced from anywhere
+ * (code, bindings, properties, user data) can be collected; interning same name later
+ * yields a fresh symbol, which is indistinguishable since nothing referenced the old one.
+ * Lookups of existing symbols don't lock; safe for use from multiple threads.
+ */
+public final class SymbolTable {
+
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final ReferenceQueue<SymbolReference> staleEntries;
+
+    /**
+     * Create symbol table, containing `nil` and `t`.
+     */
+    public SymbolTable() {
+        entries = new ConcurrentHashMap<>();
+        staleEntries = new ReferenceQueue<>();
+        register(Symbol.NIL);
+        register(Symbol.T);
+    }
+
+    private void register(Symbol symbol) {
+        entries.put(symbol.name(), new Entry(symbol.name(), symbol.identityReference(), staleEntries));
+    }
+
+    /**
+     * Find canonical symbol with given name, creating it if doesn't exist.
+     *
+     * @param name symbol name
+     * @return symbol
+     */
+    public Symbol intern(String name) {
+        var entry = entries.get(name);
+        if (entry != null) {
+            var reference = entry.get();
+            if (reference != null) {
+                return reference.getCanonicalSymbol();
+            }
+        }
+        return internSlow(name);
+    }
+
+    private Symbol internSlow(String name) {
+        expungeStaleEntries();
+        var result = new Symbol[1];
+        entries.compute(name, (k, existing) -> {
+            var reference = existing == null ? null : existing.get();
+            if (reference != null) {
+                result[0] = reference.getCanonicalSymbol();
+                return existing;
+            }
+            var symbol = Symbol.createCanonical(name);
+            result[0] = symbol;
+            return new Entry(name, symbol.identityReference(), staleEntries);
+        });
+        return result[0];
+    }
+
+    private void expungeStaleEntries() {
+        Entry entry;
+        while ((entry = (Entry) staleEntries.poll()) != null) {
+            entries.remove(entry.name, entry);
+        }
+    }
+
+    /**
+     * @return count of entries, including those whose symbols were collected but not yet expunged
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry extends WeakReference<SymbolReference> {
+
+        private final String name;
+
+        Entry(String name, SymbolReference reference, ReferenceQueue<SymbolReference> queue) {
+            super(reference, queue);
+            this.name = name;
+        }
+    }
+
+}
@@ -7,4 +7,6 @@ module com.github.arvyy.islisp {
 
   provides com.oracle.truffle.api.provider.TruffleLanguageProvider with com.github.arvyy.islisp.ISLISPTruffleLanguageProvider;
   exports com.github.arvyy.islisp.buildinfo;
+  // static object classes generated by truffle extend StandardClassObject
+  exports com.github.arvyy.islisp.runtime;
 }
\ No newline at end of file
@@ -368,23 +368,17 @@
 (define-with-file-macro with-open-output-file open-output-file)
 (define-with-file-macro with-open-io-file open-io-file)
 
-(defun string-append (:rest strings)
-  (labels ((fold (acc init lst)
-              (for ((state init (funcall acc state (car lst)))
-                    (lst lst (cdr lst)))
-                    ((not lst) state))))
-    (let ((len (fold
-                 (lambda (state el) (+ state (length el)))
-                 0
-                 strings)))
-      (for ((res (create-string len) res)
-            (lst strings (cdr lst))
-            (offset 0 (+ offset (length (car lst)))))
-           ((not lst) res)
-        (for ((j 0 (+ j 1))
-              (str (car lst) str))
-             ((>= j (length str)))
-          (setf (elt res (+ offset j)) (elt str j)))))))
+(defmacro do-read (spec :rest forms)
+  (let ((var (elt spec 0))
+        (stream (elt spec 1))
+        (result (if (> (length spec) 2) (elt spec 2) nil))
+        (stream-var (gensym))
+        (eos (gensym)))
+    `(let ((,stream-var ,stream)
+           (,eos (cons nil nil)))
+       (for ((,var (read ,stream-var nil ,eos) (read ,stream-var nil ,eos)))
+            ((eq ,var ,eos) ,result)
+            ,@forms))))
 
 (defun map-into (dest fn :rest seqs)
   (labels ((args (index)
@@ -1,6 +1,7 @@
 package com.github.arvyy.islisp.test;
 
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotAccess;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.io.IOAccess;
@@ -16,6 +17,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,6 +44,10 @@ public class ExternalTest {
     }
 
     void executeTest(Path lispFile) throws Throwable {
+        executeTest(lispFile, Map.of());
+    }
+
+    void executeTest(Path lispFile, Map<String, String> options) throws Throwable {
         var srcName = lispFile.getFileName().toString();
         var resultName = srcName.substring(0, srcName.length() - ".lisp".length()) + ".expect.txt";
         var resultFile = lispFile.getParent().resolve(resultName);
@@ -55,6 +61,8 @@ public class ExternalTest {
             .allowPolyglotAccess(PolyglotAccess.ALL)
             .allowIO(IOAccess.ALL)
             .allowNativeAccess(true)
+            .allowExperimentalOptions(true)
+            .options(options)
             .option("islisp.Sourcepath", "../tests/util");
         try (var ctx = ctxBuilder.build()) {
             ctx.eval(Source.newBuilder("islisp", lispFile.toFile()).build());
@@ -69,6 +77,11 @@ public class ExternalTest {
         }
     }
 
+    @Test
+    public void evalCacheTest() throws Throwable {
+        executeTest(Path.of("../tests/nonportable/evalcache.lisp"), Map.of("islisp.CacheEval", "true"));
+    }
+
     @Test
     public void moduleTest() throws IOException {
         var srcName = "../tests/nonportable/modulestest/main.lisp";
@@ -94,4 +107,111 @@ public class ExternalTest {
         }
     }
 
+    @Test
+    public void failedLazyModuleTest() throws IOException {
+        var srcName = "../tests/nonportable/lazymodulestest/failedload.lisp";
+        var output = new ByteArrayOutputStream();
+        var ctxBuilder = Context.newBuilder()
+            .in(new ByteArrayInputStream(new byte[0]))
+            .out(output)
+            .allowPolyglotAccess(PolyglotAccess.ALL)
+            .allowIO(IOAccess.ALL)
+            .allowExperimentalOptions(true)
+            .option("islisp.Sourcepath", "../tests/nonportable/lazymodulestest")
+            .option("islisp.LazyRequires", "true");
+        try (var ctx = ctxBuilder.build()) {
+            ctx.eval(Source.newBuilder("islisp", new File(srcName)).build());
+            var expected = """
+                failedload start
+                lazybroken.lisp failed to load
+                lazybroken.lisp failed to load
+                failedload end""";
+            var actual = output.toString(StandardCharsets.UTF_8).replaceAll("\\r", "");
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void lazyModuleTest() throws IOException {
+        var srcName = "../tests/nonportable/lazymodulestest/main.lisp";
+        var output = new ByteArrayOutputStream();
+        var ctxBuilder = Context.newBuilder()
+            .in(new ByteArrayInputStream(new byte[0]))
+            .out(output)
+            .allowPolyglotAccess(PolyglotAccess.ALL)
+            .allowIO(IOAccess.ALL)
+            .allowExperimentalOptions(true)
+            .option("islisp.Sourcepath", "../tests/nonportable/lazymodulestest")
+            .option("islisp.LazyRequires", "true");
+        try (var ctx = ctxBuilder.build()) {
+            ctx.eval(Source.newBuilder("islisp", new File(srcName)).build());
+            var expected = """
+                eager.lisp loaded
+                main start
+                lazyfunction.lisp loaded
+                Hello from lazyfunction.lisp
+                Hello from lazyfunction.lisp
+                lazyclass.lisp loaded
+                42
+                Hello from eager.lisp
+                main end""";
+            var actual = output.toString(StandardCharsets.UTF_8).replaceAll("\\r", "");
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void macroExpansionCacheTest() throws IOException {
+        var srcName = "../tests/nonportable/macrocachetest/main.lisp";
+        var output = new ByteArrayOutputStream();
+        var ctxBuilder = Context.newBuilder()
+            .in(new ByteArrayInputStream(new byte[0]))
+            .out(output)
+            .allowPolyglotAccess(PolyglotAccess.ALL)
+            .allowIO(IOAccess.ALL)
+            .allowExperimentalOptions(true)
+            .option("islisp.CacheMacroExpansions", "true");
+        try (var ctx = ctxBuilder.build()) {
+            ctx.eval(Source.newBuilder("islisp", new File(srcName)).build());
+            var expected = """
+                2
+                2
+                3
+                2
+                2
+                101
+                101
+                3
+                """;
+            var actual = output.toString(StandardCharsets.UTF_8).replaceAll("\\r", "");
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void nilPropertiesPerContextTest() {
+        try (var engine = Engine.create();
+             var ctx1 = Context.newBuilder().engine(engine).build();
+             var ctx2 = Context.newBuilder().engine(engine).build()) {
+            // property names are interned per context, except for nil and t
+            ctx1.eval("islisp", "(set-property 1 'nil 't)");
+            ctx1.eval("islisp", "(set-property 1 't 'nil)");
+            assertEquals(2, ctx2.eval("islisp", "(property 'nil 't 2)").asInt());
+            assertEquals(2, ctx2.eval("islisp", "(property 't 'nil 2)").asInt());
+            assertEquals(1, ctx1.eval("islisp", "(property 'nil 't 2)").asInt());
+        }
+    }
+
+    @Test
+    public void reevaluatedSourceTest() throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var ctx = Context.newBuilder().out(output).build()) {
+            var source = Source.newBuilder("islisp", "(format (standard-output) \"~A \" 'ok)", "reeval.lisp").build();
+            // cached call target is executed again, after its forms were released by the first run
+            ctx.eval(source);
+            ctx.eval(source);
+            assertEquals("ok ok ", output.toString(StandardCharsets.UTF_8));
+        }
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.github.arvyy.islisp.test;
+
+import com.github.arvyy.islisp.runtime.BuiltinClass;
+import com.github.arvyy.islisp.runtime.GenericFunctionDescriptor;
+import com.github.arvyy.islisp.runtime.LispClass;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.github.arvyy.islisp.runtime.SymbolReference;
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenericFunctionDescriptorTest {
+
+    @Test
+    public void testInvalidationDeferredUntilAssumptionUsed() {
+        var object = lispClass(0, "<object>");
+        var number = lispClass(1, "<number>", object);
+        var integer = lispClass(2, "<integer>", number);
+        var descriptor = new GenericFunctionDescriptor(1, false);
+
+        // nothing relies on the assumption yet
+        descriptor.addPrimaryMethod(new LispClass[]{object}, method(), null);
+        descriptor.addPrimaryMethod(new LispClass[]{number}, method(), null);
+        descriptor.addBeforeMethod(new LispClass[]{integer}, method(), null);
+        assertEquals(0, descriptor.getInvalidationCount());
+
+        var assumption = descriptor.getAssumption();
+        descriptor.addAfterMethod(new LispClass[]{integer}, method(), null);
+        descriptor.addAroundMethod(new LispClass[]{integer}, method(), null);
+        assertFalse(assumption.isValid());
+        assertEquals(1, descriptor.getInvalidationCount());
+
+        assumption = descriptor.getAssumption();
+        assertTrue(assumption.isValid());
+        descriptor.addPrimaryMethod(new LispClass[]{integer}, method(), null);
+        assertFalse(assumption.isValid());
+        assertEquals(2, descriptor.getInvalidationCount());
+
+        var methods = descriptor.getApplicableMethods(new LispClass[]{integer});
+        assertEquals(3, methods.primaryMethods().size());
+        assertEquals(1, methods.beforeMethods().size());
+        assertEquals(1, methods.afterMethods().size());
+        assertEquals(1, methods.aroundMethods().size());
+    }
+
+    @Test
+    public void testStaleApplicableMethodsInvalidated() {
+        var object = lispClass(0, "<object>");
+        var number = lispClass(1, "<number>", object);
+        var string = lispClass(2, "<string>", object);
+        var descriptor = new GenericFunctionDescriptor(1, false);
+        descriptor.addPrimaryMethod(new LispClass[]{object}, method(), null);
+
+        var numberMethods = descriptor.getApplicableMethods(new LispClass[]{number});
+        var stringMethods = descriptor.getApplicableMethods(new LispClass[]{string});
+        assertTrue(numberMethods.methodsUnchanged().isValid());
+
+        descriptor.addPrimaryMethod(new LispClass[]{number}, method(), null);
+        assertFalse(numberMethods.methodsUnchanged().isValid());
+        assertTrue(stringMethods.methodsUnchanged().isValid());
+        assertSame(stringMethods, descriptor.getApplicableMethods(new LispClass[]{string}));
+        var newNumberMethods = descriptor.getApplicableMethods(new LispClass[]{number});
+        assertEquals(2, newNumberMethods.primaryMethods().size());
+        assertTrue(newNumberMethods.methodsUnchanged().isValid());
+    }
+
+    LispClass lispClass(int id, String name, LispClass... parents) {
+        return new BuiltinClass(id, List.of(parents), new Symbol(name, new SymbolReference()), false);
+    }
+
+    CallTarget method() {
+        return new RootNode(null) {
+            @Override
+            public Object execute(VirtualFrame frame) {
+                return null;
+            }
+        }.getCallTarget();
+    }
+
+}
@@ -1,16 +1,23 @@
 package com.github.arvyy.islisp.test;
 
+import com.github.arvyy.islisp.parser.CharArrayLexer;
 import com.github.arvyy.islisp.parser.Lexer;
 import com.github.arvyy.islisp.parser.LexerSourceFromReader;
 import com.github.arvyy.islisp.parser.Token;
 import com.github.arvyy.islisp.parser.TokenWithSource;
+import com.github.arvyy.islisp.parser.Tokenizer;
 import org.junit.jupiter.api.Test;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -94,4 +101,46 @@ public class LexerTest {
         );
     }
 
+    @Test
+    public void testCharArrayLexerMatchesLexer() throws IOException {
+        var inputs = new ArrayList<String>();
+        inputs.add("""
+            (a-b +1 -2 + - 3.5e2 #x1F #b101 #o17 #2a((1 2) (3 4)) #(1) #\\a #\\newline #\\space #\\
+             "s\\"t\\\\r
+            ing" ,@x ,y `z 'w #'f (1 . 2) 12345678901234567890 ; comment
+            #| nested #| block |# comment |# end)
+            """);
+        try (var prelude = getClass().getResourceAsStream("/islispprelude.lisp")) {
+            inputs.add(new String(prelude.readAllBytes()));
+        }
+        try (var files = Stream.concat(
+            Files.list(Path.of("../tests/portable")),
+            Files.list(Path.of("../tests/nonportable")))
+        ) {
+            for (var file: files.filter(p -> p.toString().endsWith(".lisp")).toList()) {
+                inputs.add(Files.readString(file));
+            }
+        }
+        for (var input: inputs) {
+            var lexer = new Lexer(new LexerSourceFromReader(new BufferedReader(new StringReader(input)), null));
+            var charArrayLexer = new CharArrayLexer(input.toCharArray(), null);
+            assertEquals(readAllTokens(lexer), readAllTokens(charArrayLexer));
+        }
+    }
+
+    List<TokenWithSource> readAllTokens(Tokenizer tokenizer) throws IOException {
+        var tokens = new ArrayList<TokenWithSource>();
+        var token = tokenizer.nextToken();
+        while (token != null) {
+            tokens.add(new TokenWithSource(
+                token,
+                tokenizer.tokenStartLine(),
+                tokenizer.tokenStartColumn(),
+                tokenizer.tokenEndLine(),
+                tokenizer.tokenEndColumn()));
+            token = tokenizer.nextToken();
+        }
+        return tokens;
+    }
+
 }
@@ -0,0 +1,44 @@
+package com.github.arvyy.islisp.test;
+
+import com.github.arvyy.islisp.parser.MacroExpansionCache;
+import com.github.arvyy.islisp.runtime.LispFunction;
+import com.github.arvyy.islisp.runtime.Pair;
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.github.arvyy.islisp.runtime.SymbolTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MacroExpansionCacheTest {
+
+    @Test
+    public void testExpansionUsesCallSiteSubforms() {
+        var symbols = new SymbolTable();
+        var macro = new LispFunction(null);
+        var firstForm = callForm(symbols);
+        var firstArg = ((Pair) ((Pair) firstForm).cdr()).car();
+        var expansion = new Pair(symbols.intern("foo"), new Pair(firstArg, Symbol.NIL));
+        var cache = new MacroExpansionCache();
+        cache.put(macro, firstForm, expansion);
+
+        var secondForm = callForm(symbols);
+        var secondArg = ((Pair) ((Pair) secondForm).cdr()).car();
+        var cached = (Pair) cache.get(macro, secondForm);
+        assertNotSame(expansion, cached);
+        assertSame(symbols.intern("foo"), cached.car());
+        assertSame(secondArg, ((Pair) cached.cdr()).car());
+        assertNotSame(cached, cache.get(macro, secondForm));
+
+        cache.invalidate(macro);
+        assertNull(cache.get(macro, secondForm));
+    }
+
+    // (m (a b))
+    private static Object callForm(SymbolTable symbols) {
+        var arg = new Pair(symbols.intern("a"), new Pair(symbols.intern("b"), Symbol.NIL));
+        return new Pair(symbols.intern("m"), new Pair(arg, Symbol.NIL));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.arvyy.islisp.test;
+
+import com.github.arvyy.islisp.runtime.Symbol;
+import com.github.arvyy.islisp.runtime.SymbolTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SymbolTableTest {
+
+    @Test
+    public void testCanonicalInstances() {
+        var table = new SymbolTable();
+        assertSame(Symbol.NIL, table.intern("nil"));
+        assertSame(Symbol.T, table.intern("t"));
+        var foo = table.intern("foo");
+        assertSame(foo, table.intern("foo"));
+        assertSame(foo, foo.identityReference().getCanonicalSymbol());
+    }
+
+    @Test
+    public void testConcurrentInterning() throws Exception {
+        var table = new SymbolTable();
+        var seen = ConcurrentHashMap.<Symbol>newKeySet();
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        seen.add(table.intern("sym" + (i % 10)));
+                    }
+                }));
+            }
+            for (var f: futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(10, seen.size());
+    }
+
+    @Test
+    public void testUnreferencedSymbolsAreCollected() throws Exception {
+        var table = new SymbolTable();
+        var kept = table.intern("kept");
+        for (int i = 0; i < 100_000; i++) {
+            table.intern("garbage" + i);
+        }
+        for (int attempt = 0; attempt < 50 && table.size() > 1000; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            // interning a new name expunges collected entries
+            table.intern("probe" + attempt);
+        }
+        assertTrue(table.size() < 1000);
+        assertSame(kept, table.intern("kept"));
+    }
+
+}
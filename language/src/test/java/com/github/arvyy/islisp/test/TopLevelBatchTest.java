@@ -0,0 +1,69 @@
+package com.github.arvyy.islisp.test;
+
+import com.github.arvyy.islisp.ISLISPContext;
+import com.github.arvyy.islisp.parser.Parser;
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.source.Source;
+import org.graalvm.polyglot.Context;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TopLevelBatchTest {
+
+    @Test
+    public void testPreludeMacrosDontSplitBatches() {
+        var code = """
+            (defglobal x 1)
+            (defun f (a b) (and a (or b x)))
+            (if (and (f 1 nil) (or nil 2)) (setq x 2) (setq x 3))
+            (ignore-errors (f 1 2))
+            x
+            """;
+        assertEquals(List.of(5), batchSizes(code));
+    }
+
+    @Test
+    public void testUserMacroSplitsBatches() {
+        var code = """
+            (defglobal x 1)
+            (defmacro m () x)
+            (m)
+            (and x (m))
+            """;
+        // defmacro ends a batch; each use of m executes pending forms first
+        assertEquals(List.of(2, 1, 1), batchSizes(code));
+    }
+
+    // count of top level forms executed in each root node
+    private static List<Integer> batchSizes(String code) {
+        try (var ctx = Context.create("islisp")) {
+            ctx.initialize("islisp");
+            ctx.enter();
+            try {
+                var parser = new Parser();
+                var moduleSource = parser.parseModuleSource(
+                    "MAIN",
+                    Source.newBuilder("islisp", code, "batch.lisp").build());
+                var islispContext = ISLISPContext.get(null);
+                islispContext.createModule("MAIN", moduleSource.requires(), moduleSource.provides());
+                var targets = new ArrayList<CallTarget>();
+                var sizes = new ArrayList<Integer>();
+                parser.expandAndExecute(moduleSource, (expr, target) -> {
+                    if (targets.isEmpty() || targets.get(targets.size() - 1) != target) {
+                        targets.add(target);
+                        sizes.add(0);
+                    }
+                    sizes.set(sizes.size() - 1, sizes.get(sizes.size() - 1) + 1);
+                });
+                return sizes;
+            } finally {
+                ctx.leave();
+            }
+        }
+    }
+
+}
@@ -66,6 +66,10 @@ public final class Main {
                 ISLISP specific options:
                 * islisp.Sourcepath - when using `require` form, islisp searches from roots provided through this option.
                 Option value: set of paths, separated by `:`.
+                * islisp.LazyRequires - defer loading required modules that only export functions and classes
+                until one of their exports is first used. Experimental.
+                * islisp.CacheMacroExpansions - reuse expansions of structurally equal macro forms instead of
+                rerunning the macro; only correct for macros without side effects. Experimental.
                 
                 For other options see truffle documentation.
                 
@@ -0,0 +1,31 @@
+;; nonportable, because do-read is an extension
+(requires "testing.lisp")
+
+(let ((stream (create-string-input-stream "1 (a b) \"str\" #(2 3) 'q"))
+      (data '()))
+  (test-equal 5
+    (do-read (datum stream (length data))
+      (setq data (cons datum data))))
+  (test-equal '((quote q) #(2 3) "str" (a b) 1) data))
+
+;; read interleaved with other input operations on the same stream
+(let ((stream (create-string-input-stream "(1 2)x 3 rest of line
+last")))
+  (test-equal '(1 2) (read stream))
+  (test-equal #\x (read-char stream))
+  (test-equal 3 (read stream))
+  (test-equal " rest of line" (read-line stream))
+  (test-equal 'last (read stream))
+  (test-equal 'eos (read stream nil 'eos)))
+
+;; reading multibyte characters
+(let ((stream (create-string-input-stream "\"ąčę\" #\\ž")))
+  (test-equal "ąčę" (read stream))
+  (test-equal #\ž (read stream)))
+
+(test-equal 'done
+  (do-read (datum (create-string-input-stream "") 'done)
+    (format (standard-output) "FAIL")))
+
+(format (standard-output) "doread.lisp end")
+(finish-output (standard-output))
\ No newline at end of file
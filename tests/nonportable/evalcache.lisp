@@ -0,0 +1,32 @@
+;; nonportable, because eval is an extension
+(requires "testing.lisp")
+
+(defglobal counter 0)
+(defun bump ()
+  (setq counter (+ counter 1)))
+
+(test-equal (eval "islisp" "(+ 1 2)") 3)
+(test-equal (eval "islisp" "(+ 1 2)") 3)
+
+(for ((i 0 (+ i 1)))
+     ((= i 3))
+     (eval "islisp" "(bump)"))
+(test-equal counter 3)
+
+;; redefinitions are picked up by previously evaluated code
+(defun bump ()
+  (setq counter (+ counter 10)))
+(eval "islisp" "(bump)")
+(test-equal counter 13)
+
+(eval "islisp" "(defmacro eval-macro () 1)")
+(test-equal (eval "islisp" "(eval-macro)") 1)
+(eval "islisp" "(defmacro eval-macro () 2)")
+(test-equal (eval "islisp" "(eval-macro)") 2)
+
+;; local variables of evaluated code start fresh on each call
+(test-equal (eval "islisp" "(let ((x 1)) (setq x (+ x 1)) x)") 2)
+(test-equal (eval "islisp" "(let ((x 1)) (setq x (+ x 1)) x)") 2)
+
+(format (standard-output) "evalcache.lisp end")
+(finish-output (standard-output))
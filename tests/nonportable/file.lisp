@@ -45,6 +45,19 @@
   (test-equal nil (read-byte in nil))
   (close in))
 
+;; malformed utf-8; byte that breaks a sequence is not swallowed
+(delete-file "../tests/nonportable/file.dat")
+(let ((out (open-output-file "../tests/nonportable/file.dat")))
+  (write-byte 195 out)
+  (write-byte 65 out)
+  (finish-output out)
+  (close out))
+(let ((in (open-input-file "../tests/nonportable/file.dat")))
+  (test-equal 65533 (convert (read-char in) <integer>))
+  (test-equal #\A (read-char in))
+  (test-equal nil (read-char in nil))
+  (close in))
+
 ;; util macros
 (let ((ran nil)
       (stream* nil))
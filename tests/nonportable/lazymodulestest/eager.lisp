@@ -0,0 +1,6 @@
+(provides
+    eager-macro)
+
+(format (standard-output) "eager.lisp loaded~%")
+
+(defmacro eager-macro () "Hello from eager.lisp")
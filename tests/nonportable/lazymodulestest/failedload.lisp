@@ -0,0 +1,17 @@
+(requires
+    "lazybroken.lisp")
+
+(defun report-failure ()
+  (block exit
+    (with-handler
+        (lambda (condition)
+          (format (standard-output) "~A~%" (simple-error-format-string condition))
+          (return-from exit nil))
+      (broken-function))))
+
+(format (standard-output) "failedload start~%")
+;; failure is reported on first use, and again on later uses instead of an undefined function
+(report-failure)
+(report-failure)
+(format (standard-output) "failedload end")
+(finish-output (standard-output))
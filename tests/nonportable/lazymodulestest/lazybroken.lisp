@@ -0,0 +1,6 @@
+(provides
+    broken-function)
+
+(defun broken-function () "unreachable")
+
+(error "lazybroken.lisp failed to load")
@@ -0,0 +1,8 @@
+(provides
+    <lazy-class>
+    lazy-class-value)
+
+(format (standard-output) "lazyclass.lisp loaded~%")
+
+(defclass <lazy-class> ()
+    ((value :reader lazy-class-value :initarg value)))
@@ -0,0 +1,7 @@
+(provides
+    lazy-function)
+
+(format (standard-output) "lazyfunction.lisp loaded~%")
+
+(defun internal () "Hello from lazyfunction.lisp")
+(defun lazy-function () (internal))
@@ -0,0 +1,12 @@
+(requires
+    "lazyfunction.lisp"
+    "lazyclass.lisp"
+    "eager.lisp")
+
+(format (standard-output) "main start~%")
+(format (standard-output) "~A~%" (lazy-function))
+(format (standard-output) "~A~%" (lazy-function))
+(format (standard-output) "~A~%" (lazy-class-value (create (class <lazy-class>) 'value 42)))
+(format (standard-output) "~A~%" (eager-macro))
+(format (standard-output) "main end")
+(finish-output (standard-output))
@@ -0,0 +1,23 @@
+(defglobal expansions 0)
+
+(defmacro add-one (x)
+  (setq expansions (+ expansions 1))
+  `(+ ,x 1))
+
+(defun print (value)
+  (format (standard-output) "~A~%" value))
+
+(print (add-one 1))
+(print (add-one 1))
+(print (add-one 2))
+(print (add-one 1))
+(print expansions)
+
+;; redefinition drops cached expansions
+(defmacro add-one (x)
+  (setq expansions (+ expansions 1))
+  `(+ ,x 100))
+
+(print (add-one 1))
+(print (add-one 1))
+(print expansions)
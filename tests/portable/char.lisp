@@ -15,5 +15,11 @@
 (test-equal (char/= #\a #\b) t)
 (test-equal (char/= #\a #\a) nil)
 
+(test-equal (eq (elt "abc" 0) (elt "abc" 0)) t)
+(test-equal (eq (elt "abc" 0) #\a) t)
+(test-equal (eql (elt (create-string 1 #\ž) 0) #\ž) t)
+(test-equal (eq (read-char (create-string-input-stream "x")) #\x) t)
+(test-equal (eq #\a #\b) nil)
+
 (format (standard-output) "char.lisp end")
 (finish-output (standard-output))
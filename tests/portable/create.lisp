@@ -0,0 +1,30 @@
+(requires "testing.lisp")
+
+;; check initforms and initargs, including after initialize-object gets a method added
+(defglobal initform-count 0)
+(defclass <shape> ()
+  ((width :reader shape-width :initarg width :initform (progn (setq initform-count (+ initform-count 1)) 1))
+   (height :reader shape-height :initarg height :initform 2)))
+(defclass <square> (<shape>) ((height :initarg side)))
+(defun make-shape (w)
+  (create (class <shape>) 'width w))
+(let ((s (make-shape 5)))
+  (test-equal (shape-width s) 5)
+  (test-equal (shape-height s) 2)
+  (test-equal initform-count 0))
+(let ((s (create (class <shape>))))
+  (test-equal (shape-width s) 1)
+  (test-equal initform-count 1))
+(let ((s (create (class <square>) 'side 3)))
+  (test-equal (shape-width s) 1)
+  (test-equal (shape-height s) 3)
+  (test-equal initform-count 2))
+(defmethod initialize-object ((s <shape>) :rest args)
+  (setq initform-count 100)
+  (call-next-method))
+(let ((s (make-shape 6)))
+  (test-equal (shape-width s) 6)
+  (test-equal initform-count 100))
+
+(format (standard-output) "create.lisp end")
+(finish-output (standard-output))
@@ -43,5 +43,95 @@
         (class <doesntexist>)
         (format (standard-output) "FAIL~%")))
 
+;; check class hierarchy predicates
+(defclass <left> (<foo2>) ())
+(defclass <right> (<foo3>) ())
+(defclass <bottom> (<left> <right>) ())
+(test-equal (subclassp (class <bottom>) (class <foo>)) t)
+(test-equal (subclassp (class <bottom>) (class <foo3>)) t)
+(test-equal (subclassp (class <bottom>) (class <object>)) t)
+(test-equal (subclassp (class <bottom>) (class <bottom>)) t)
+(test-equal (subclassp (class <left>) (class <right>)) nil)
+(test-equal (subclassp (class <foo>) (class <bottom>)) nil)
+(test-equal (subclassp (class <integer>) (class <number>)) t)
+(test-equal (subclassp (class <null>) (class <list>)) t)
+(test-equal (subclassp (class <number>) (class <integer>)) nil)
+(test-equal (instancep (create (class <bottom>)) (class <foo2>)) t)
+(test-equal (instancep (create (class <left>)) (class <foo3>)) nil)
+(test-equal (instancep 1 (class <number>)) t)
+(test-equal (instancep 1 (class <float>)) nil)
+
+;; check accessors keep working after user adds methods to them
+(defclass <point> () ((x :accessor point-x :initarg x)))
+(defun get-point-x (p)
+  (point-x p))
+(defun set-point-x (p value)
+  (setf (point-x p) value))
+(defglobal point (create (class <point>) 'x 1))
+(test-equal (get-point-x point) 1)
+(set-point-x point 2)
+(test-equal (get-point-x point) 2)
+(defmethod point-x :around ((p <point>))
+  (+ 10 (call-next-method)))
+(set-point-x point 3)
+(test-equal (get-point-x point) 13)
+
+;; check typed slots
+(defclass <particle> ()
+  ((x :accessor particle-x :initarg x :type <float> :initform 0.0)
+   (count :accessor particle-count :initarg count :type <integer> :boundp particle-count-p)
+   (tag :accessor particle-tag :initarg tag :type <character>)))
+(defclass <charged-particle> (<particle>) ((charge :accessor particle-charge :type <float> :initform 1.0)))
+(let ((p (create (class <particle>) 'count 3 'tag #\a)))
+  (test-equal (particle-x p) 0.0)
+  (test-equal (particle-count p) 3)
+  (test-equal (particle-tag p) #\a)
+  (setf (particle-x p) 2.5)
+  (setf (particle-count p) (+ (particle-count p) 1))
+  (test-equal (particle-x p) 2.5)
+  (test-equal (particle-count p) 4))
+(let ((p (create (class <particle>))))
+  (test-equal (particle-count-p p) nil)
+  (setf (particle-count p) 0)
+  (test-equal (particle-count-p p) t))
+(let ((p (create (class <particle>) 'count 100000000000000000000)))
+  (test-equal (particle-count p) 100000000000000000000)
+  (setf (particle-count p) (+ (particle-count p) 1))
+  (test-equal (particle-count p) 100000000000000000001)
+  (setf (particle-count p) 5)
+  (test-equal (particle-count p) 5)
+  (setf (particle-count p) (* (particle-count p) 100000000000000000000))
+  (test-equal (particle-count p) 500000000000000000000))
+(let ((p (create (class <charged-particle>) 'x 1.5)))
+  (test-equal (particle-x p) 1.5)
+  (test-equal (particle-charge p) 1.0))
+(defun check-slot-type-error (thunk)
+  (block exit
+    (with-handler
+      (lambda (condition)
+        (test-equal (instancep condition (class <domain-error>)) t)
+        (return-from exit nil))
+      (funcall thunk)
+      (test-equal nil t))))
+(check-slot-type-error (lambda () (setf (particle-x (create (class <particle>))) 1)))
+(check-slot-type-error (lambda () (setf (particle-tag (create (class <particle>))) "a")))
+(check-slot-type-error (lambda () (create (class <particle>) 'count 1.0)))
+
+;; check class-of for builtin representations
+(test-equal (eq (class-of nil) (class <null>)) t)
+(test-equal (eq (class-of 'foo) (class <symbol>)) t)
+(test-equal (eq (class-of '(1 2)) (class <cons>)) t)
+(test-equal (eq (class-of (create-string 2 #\a)) (class <string>)) t)
+(test-equal (instancep nil (class <list>)) t)
+(test-equal (instancep '(1) (class <list>)) t)
+(test-equal (instancep 'foo (class <list>)) nil)
+(defgeneric list-kind (x))
+(defmethod list-kind ((x <object>)) 'other)
+(defmethod list-kind ((x <list>)) 'list)
+(defmethod list-kind ((x <null>)) 'empty)
+(test-equal (list-kind nil) 'empty)
+(test-equal (list-kind '(1)) 'list)
+(test-equal (list-kind 1) 'other)
+
 (format (standard-output) "defclass.lisp end")
 (finish-output (standard-output))
@@ -44,5 +44,55 @@
         (foo3 1)
         (print "FAIL")))
 
+;; test only some of after methods being applicable, and methods added after a call
+(defgeneric foo4 (a))
+(defmethod foo4 (a) nil)
+(defmethod foo4 :after ((a <float>)) (test-print 0))
+(defmethod foo4 :after ((a <number>)) (test-print 12))
+(defmethod foo4 :after ((a <integer>)) (test-print 13))
+(foo4 1)
+(foo4 'a)
+(defmethod foo4 :before ((a <integer>)) (test-print 14))
+(defmethod foo4 :before ((a <symbol>)) (test-print 15))
+(foo4 1)
+(foo4 'a)
+
+;; test call site seeing many different argument classes
+(defgeneric foo5 (a))
+(defmethod foo5 ((a <integer>)) 16)
+(defmethod foo5 ((a <float>)) 17)
+(defmethod foo5 ((a <symbol>)) 18)
+(defmethod foo5 ((a <string>)) 19)
+(defmethod foo5 ((a <character>)) 20)
+(defun print-foo5 (a)
+    (test-print (foo5 a)))
+(mapc #'print-foo5 '(1 1.5 a "b" #\x 2 2.5 c "d" #\y))
+
+;; test next method access only through next-method-p or from within a lambda
+(defgeneric foo6 (a))
+(defmethod foo6 ((a <number>))
+    (if (next-method-p) 0 21))
+(defmethod foo6 ((a <integer>))
+    (let ((next (lambda () (call-next-method))))
+      (test-print (funcall next))
+      22))
+(test-print (foo6 1))
+(test-print (foo6 1))
+
+;; test call site staying correct while methods keep being added, with call-next-method chains
+(defgeneric foo7 (a))
+(defmethod foo7 ((a <object>)) 23)
+(defun print-foo7 (a)
+    (test-print (foo7 a)))
+(print-foo7 1)
+(defmethod foo7 ((a <number>)) (+ 1 (call-next-method)))
+(print-foo7 1)
+(defmethod foo7 ((a <integer>)) (+ 1 (call-next-method)))
+(print-foo7 1)
+(defmethod foo7 :around ((a <integer>)) (+ 1 (call-next-method)))
+(print-foo7 1)
+(print-foo7 1.5)
+(print-foo7 'a)
+
 (format (standard-output) "defgeneric.lisp end")
 (finish-output (standard-output))
@@ -0,0 +1,45 @@
+(requires "testing.lisp")
+
+(defrecord <point> (make-point x y) point-p
+  (x point-x set-point-x)
+  (y point-y)
+  (label point-label set-point-label))
+
+(let ((p (make-point 1 2)))
+  (test-equal (point-x p) 1)
+  (test-equal (point-y p) 2)
+  (test-equal (point-label p) nil)
+  (set-point-x p 3)
+  (set-point-label p "origin")
+  (test-equal (point-x p) 3)
+  (test-equal (point-label p) "origin")
+  (test-equal (point-p p) t)
+  (test-equal (point-p 1) nil)
+  (test-equal (eq (class-of p) (class <point>)) t)
+  (test-equal (instancep p (class <object>)) t))
+
+;; records can be specialized on by generic functions
+(defgeneric describe (obj))
+(defmethod describe ((p <point>))
+  (+ (point-x p) (point-y p)))
+(test-equal (describe (make-point 4 5)) 9)
+
+;; accessor on wrong type
+(block exit
+  (with-handler
+    (lambda (condition)
+      (test-equal (instancep condition (class <domain-error>)) t)
+      (return-from exit nil))
+    (point-x 1)
+    (test-equal nil t)))
+
+;; constructor arity
+(block exit
+  (with-handler
+    (lambda (condition)
+      (return-from exit nil))
+    (make-point 1)
+    (test-equal nil t)))
+
+(format (standard-output) "defrecord.lisp end")
+(finish-output (standard-output))
@@ -66,11 +66,62 @@
   (setf (elt str 0) #\1)
   (test-equal str "1"))
 
+;; mutable strings holding characters outside latin-1
+(let ((str (create-string 3 #\a)))
+  (setf (elt str 1) #\ž)
+  (test-equal str "aža")
+  (test-equal (elt str 1) #\ž)
+  (test-equal (elt str 2) #\a)
+  (test-equal (length str) 3)
+  (test-equal (equal str (create-string 1 #\a)) nil)
+  (let ((other (create-string 3 #\a)))
+    (test-equal (equal str other) nil)
+    (setf (elt other 1) #\ž)
+    (test-equal (equal str other) t)
+    (test-equal (equal other str) t)))
+(let ((str (create-string 2 #\ÿ)))
+  (test-equal str "ÿÿ")
+  (setf (aref str 0) #\x)
+  (test-equal (aref str 0) #\x)
+  (test-equal (equal str "xÿ") t)
+  (test-equal (equal "xÿ" str) t)
+  (test-equal (equal str "xÿz") nil))
+
+;; conversions of mutable strings
+(test-equal (convert (create-string 2 #\a) <list>) '(#\a #\a))
+(test-equal (convert (create-string 2 #\a) <general-vector>) #(#\a #\a))
+(test-equal (convert (create-string 2 #\a) <symbol>) 'aa)
+(test-equal (convert (create-string 2 #\1) <integer>) 11)
+(test-equal (convert (create-string 2 #\1) <string>) "11")
+
 ;; append
 (test-equal (string-append "12" "34") "1234")
 (test-equal (string-append "12" "" "34" "5") "12345")
 (test-equal (string-append "12" (create-string 1 #\3)) "123")
 (test-equal (string-append) "")
+(test-equal (string-append "a" (create-string 2 #\ž) "b") "ažžb")
+(test-equal (length (string-append "ab" (create-string 2 #\ž))) 4)
+(let ((str (string-append "ab")))
+  (setf (elt str 0) #\x)
+  (test-equal str "xb"))
+(block exit
+    (with-handler
+        (lambda (condition)
+            (test-equal (instancep condition (class <domain-error>)) t)
+            (return-from exit nil))
+        (string-append "a" 1)
+        (print "FAIL")))
+
+;; characters outside basic multilingual plane
+(test-equal (length "a😀b") 3)
+(test-equal (elt "a😀b" 1) (elt "😀" 0))
+(test-equal (create-string 1 (aref "a😀b" 1)) "😀")
+(test-equal (elt "a😀b" 2) #\b)
+(test-equal (aref "a😀b" 2) #\b)
+(test-equal (convert "a😀b" <list>) (list #\a (elt "😀" 0) #\b))
+(test-equal (convert "a😀b" <general-vector>) (vector #\a (elt "😀" 0) #\b))
+(test-equal (string-append "a😀" "b") "a😀b")
+(test-equal (length (string-append "a😀" "b")) 3)
 
 (format-object (standard-output) "string.lisp end" nil)
 (finish-output (standard-output))
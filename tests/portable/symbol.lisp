@@ -11,6 +11,26 @@
 (setf (property 'foo 'bar) "OK4")
 (test-equal (remove-property 'foo 'bar) "OK4")
 (test-equal (property 'foo 'bar "OK5") "OK5")
+(test-equal (remove-property 'foo 'bar) nil)
+
+;; properties are shared by all occurences of a symbol
+(set-property "OK6" (convert "prop-sym" <symbol>) 'baz)
+(test-equal (property 'prop-sym 'baz) "OK6")
+
+;; many distinct symbols and property names
+(defun set-and-get-property (sym prop value)
+  (set-property value sym prop)
+  (property sym prop))
+(test-equal (set-and-get-property 'p1 'a 1) 1)
+(test-equal (set-and-get-property 'p2 'b 2) 2)
+(test-equal (set-and-get-property 'p3 'c 3) 3)
+(test-equal (set-and-get-property 'p4 'd 4) 4)
+(test-equal (set-and-get-property 'p1 'e 5) 5)
+(test-equal (property 'p1 'a) 1)
+(test-equal (property 'p4 'd) 4)
+(test-equal (remove-property 'p1 'a) 1)
+(test-equal (property 'p1 'a) nil)
+(test-equal (property 'p1 'e) 5)
 
 (test-equal (eql 'a 'a) t)
 (test-equal (eql 'a 'c) nil)
@@ -0,0 +1,43 @@
+(requires "testing.lisp")
+
+;; effects of preceding top level forms are visible to macros during expansion
+(defglobal expansion-value 1)
+(defun expansion-helper ()
+  expansion-value)
+(defmacro helper-macro ()
+  (expansion-helper))
+(setq expansion-value 2)
+(test-equal (helper-macro) 2)
+
+;; macro defined within top level progn is usable by following forms
+(progn
+  (defglobal progn-value 3)
+  (defmacro progn-macro ()
+    progn-value))
+(test-equal (progn-macro) 3)
+
+;; macro expanding into macro definition
+(defmacro define-constant-macro (name value)
+  `(defmacro ,name () ,value))
+(define-constant-macro four-macro 4)
+(test-equal (four-macro) 4)
+
+;; top level forms are executed in order
+(defglobal visited nil)
+(defun record-visit (x)
+  (setq visited (cons x visited)))
+(record-visit 1) (record-visit 2) (record-visit 3) (record-visit 4) (record-visit 5) (record-visit 6) (record-visit 7) (record-visit 8)
+(record-visit 9) (record-visit 10) (record-visit 11) (record-visit 12) (record-visit 13) (record-visit 14) (record-visit 15) (record-visit 16)
+(record-visit 17) (record-visit 18) (record-visit 19) (record-visit 20) (record-visit 21) (record-visit 22) (record-visit 23) (record-visit 24)
+(record-visit 25) (record-visit 26) (record-visit 27) (record-visit 28) (record-visit 29) (record-visit 30) (record-visit 31) (record-visit 32)
+(record-visit 33) (record-visit 34) (record-visit 35) (record-visit 36) (record-visit 37) (record-visit 38) (record-visit 39) (record-visit 40)
+(record-visit 41) (record-visit 42) (record-visit 43) (record-visit 44) (record-visit 45) (record-visit 46) (record-visit 47) (record-visit 48)
+(record-visit 49) (record-visit 50) (record-visit 51) (record-visit 52) (record-visit 53) (record-visit 54) (record-visit 55) (record-visit 56)
+(record-visit 57) (record-visit 58) (record-visit 59) (record-visit 60) (record-visit 61) (record-visit 62) (record-visit 63) (record-visit 64)
+(record-visit 65) (record-visit 66) (record-visit 67) (record-visit 68) (record-visit 69) (record-visit 70)
+(test-equal (length visited) 70)
+(test-equal (car visited) 70)
+(test-equal (car (reverse visited)) 1)
+
+(format-object (standard-output) "toplevel.lisp end" nil)
+(finish-output (standard-output))